@@ -0,0 +1,73 @@
+package com.fillumina.lcs.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Common parameters and benchmarks. Subclasses define which algorithms
+ * are measured and on which sequence lengths (the algorithms using
+ * quadratic space cannot be run on very long sequences).
+ * <p>
+ * Throughput and sampled latency (which reports percentiles) are both
+ * measured, use {@link LcsBenchmarks} to run them with the GC profiler
+ * to get the allocation rate too.
+ *
+ * @author Francesco Illuminati
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractLcsBenchmark {
+
+    /** Fraction of the elements shared by the two sequences. */
+    @Param({"0.1", "0.5", "0.9"})
+    public double lcsRatio;
+
+    /** Number of distinct symbols in the sequences. */
+    @Param({"4", "256", "65536"})
+    public int alphabetSize;
+
+    private Integer[] a, b;
+
+    /** @return the algorithm selected by the subclass' parameter. */
+    protected abstract LcsAlgorithm getAlgorithm();
+
+    /** @return the length selected by the subclass' parameter. */
+    protected abstract int getLength();
+
+    @Setup
+    public void setup() {
+        final SequenceGenerator generator =
+                new SequenceGenerator(getLength(), lcsRatio, alphabetSize);
+        a = generator.getFirstSequence();
+        b = generator.getSecondSequence();
+    }
+
+    @Benchmark
+    public Object lcs() {
+        return getAlgorithm().lcs(a, b);
+    }
+
+    @Benchmark
+    public Object lcsIndexes() {
+        return getAlgorithm().lcsIndexes(a, b);
+    }
+
+    @Benchmark
+    public int lcsLength() {
+        return getAlgorithm().lcsLength(a, b);
+    }
+}
@@ -0,0 +1,33 @@
+package com.fillumina.lcs.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the Hirschberg algorithms: they use linear space but their
+ * time is always quadratic so the sequences are limited to 10.000
+ * elements (about {@code 10^8} comparisons per call) for the default run
+ * to complete in a reasonable time.
+ *
+ * @author Francesco Illuminati
+ */
+public class HirschbergLcsBenchmark extends AbstractLcsBenchmark {
+
+    @Param({
+        "HIRSCHBERG",
+        "PARALLEL_HIRSCHBERG"
+    })
+    public LcsAlgorithm algorithm;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int length;
+
+    @Override
+    protected LcsAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    protected int getLength() {
+        return length;
+    }
+}
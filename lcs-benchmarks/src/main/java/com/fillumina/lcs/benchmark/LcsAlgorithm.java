@@ -0,0 +1,91 @@
+package com.fillumina.lcs.benchmark;
+
+import com.fillumina.lcs.AdaptiveLcs;
+import com.fillumina.lcs.BitParallelLcs;
+import com.fillumina.lcs.HirschbergLinearSpaceLcs;
+import com.fillumina.lcs.InterningLcs;
+import com.fillumina.lcs.Lcs;
+import com.fillumina.lcs.LinearSpaceMyersLcs;
+import com.fillumina.lcs.MyersLcs;
+import com.fillumina.lcs.ParallelHirschbergLinearSpaceLcs;
+import com.fillumina.lcs.ParallelLinearSpaceMyersLcs;
+import com.fillumina.lcs.WagnerFischerLcs;
+import com.fillumina.lcs.algorithm.hirschberg.HirschbergLinearSpaceAlgorithmLcs;
+import com.fillumina.lcs.algorithm.hirschberg.OptimizedHirschbergLinearSpaceLcs;
+import com.fillumina.lcs.algorithm.myers.OptimizedMyersLcs;
+import com.fillumina.lcs.algorithm.myers.ReverseMyersLcs;
+import com.fillumina.lcs.algorithm.myers.linearspace.RLinearSpaceMyersLcs;
+import com.fillumina.lcs.algorithm.scoretable.SmithWatermanLcs;
+import com.fillumina.lcs.helper.LcsList;
+
+/**
+ * The algorithms that can be selected by the {@code algorithm} parameter
+ * of the benchmarks. The ones from the {@code lcs} module implements
+ * {@link Lcs} while the ones from the {@code lcs-algorithms} module
+ * implements {@link LcsList}.
+ *
+ * @author Francesco Illuminati
+ */
+public enum LcsAlgorithm {
+    // lcs module
+    MYERS(MyersLcs.INSTANCE),
+    LINEAR_SPACE_MYERS(LinearSpaceMyersLcs.INSTANCE),
+    PARALLEL_LINEAR_SPACE_MYERS(ParallelLinearSpaceMyersLcs.INSTANCE),
+    HIRSCHBERG(HirschbergLinearSpaceLcs.INSTANCE),
+    PARALLEL_HIRSCHBERG(ParallelHirschbergLinearSpaceLcs.INSTANCE),
+    WAGNER_FISCHER(WagnerFischerLcs.INSTANCE),
+    ADAPTIVE(AdaptiveLcs.INSTANCE),
+    INTERNING_LINEAR_SPACE_MYERS(InterningLcs.INSTANCE),
+    INTERNING_MYERS(new InterningLcs(MyersLcs.INSTANCE)),
+    BIT_PARALLEL(BitParallelLcs.INSTANCE),
+
+    // lcs-algorithms module
+    ALGORITHMS_MYERS(
+            new com.fillumina.lcs.algorithm.myers.MyersLcs()),
+    ALGORITHMS_OPTIMIZED_MYERS(new OptimizedMyersLcs()),
+    ALGORITHMS_REVERSE_MYERS(new ReverseMyersLcs()),
+    ALGORITHMS_LINEAR_SPACE_MYERS(new RLinearSpaceMyersLcs()),
+    ALGORITHMS_HIRSCHBERG(new HirschbergLinearSpaceAlgorithmLcs()),
+    ALGORITHMS_OPTIMIZED_HIRSCHBERG(new OptimizedHirschbergLinearSpaceLcs()),
+    ALGORITHMS_WAGNER_FISCHER(
+            new com.fillumina.lcs.algorithm.scoretable.WagnerFischerLcs()),
+    ALGORITHMS_SMITH_WATERMAN(new SmithWatermanLcs());
+
+    private final Lcs lcs;
+    private final LcsList lcsList;
+
+    private LcsAlgorithm(Lcs lcs) {
+        this.lcs = lcs;
+        this.lcsList = null;
+    }
+
+    private LcsAlgorithm(LcsList lcsList) {
+        this.lcs = null;
+        this.lcsList = lcsList;
+    }
+
+    /** @return the LCS of the given sequences. */
+    public <T> Object lcs(T[] a, T[] b) {
+        if (lcs != null) {
+            return lcs.calculateLcs(a, b);
+        }
+        return lcsList.lcs(a, b);
+    }
+
+    /** @return the matching indexes of the given sequences. */
+    public Object lcsIndexes(Object[] a, Object[] b) {
+        if (lcs != null) {
+            return lcs.calculateLcsIndexes(a, b);
+        }
+        // the lcs-algorithms implementations can only return the LCS
+        return lcsList.lcs(a, b);
+    }
+
+    /** @return the length of the LCS of the given sequences. */
+    public int lcsLength(Object[] a, Object[] b) {
+        if (lcs != null) {
+            return lcs.calculateLcsLength(a, b);
+        }
+        return lcsList.lcs(a, b).size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.fillumina.lcs.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled so that the allocation
+ * rate is reported along with throughput and latency percentiles.
+ * It accepts the usual JMH command line options, i.e.:
+ * <pre>
+ * java -jar lcs-benchmarks/target/benchmarks.jar LinearSpace \
+ *      -p length=1000,10000 -p lcsRatio=0.9 -p alphabetSize=65536
+ * </pre>
+ *
+ * @author Francesco Illuminati
+ */
+public class LcsBenchmarks {
+
+    public static void main(String[] args)
+            throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final ChainedOptionsBuilder builder = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(LcsBenchmarks.class.getPackage().getName());
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,38 @@
+package com.fillumina.lcs.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the linear space algorithms whose time depends on the edit
+ * distance on sequences from 10 to 100.000 elements. Very similar
+ * sequences can be measured on longer lengths with
+ * {@code -p length=1000000 -p lcsRatio=0.9}. The Hirschberg algorithms
+ * are in {@link HirschbergLcsBenchmark} because they are always quadratic
+ * in time.
+ *
+ * @author Francesco Illuminati
+ */
+public class LinearSpaceLcsBenchmark extends AbstractLcsBenchmark {
+
+    @Param({
+        "LINEAR_SPACE_MYERS",
+        "PARALLEL_LINEAR_SPACE_MYERS",
+        "ADAPTIVE",
+        "INTERNING_LINEAR_SPACE_MYERS",
+        "BIT_PARALLEL"
+    })
+    public LcsAlgorithm algorithm;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int length;
+
+    @Override
+    protected LcsAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    protected int getLength() {
+        return length;
+    }
+}
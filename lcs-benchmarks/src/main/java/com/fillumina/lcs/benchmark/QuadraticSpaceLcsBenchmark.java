@@ -0,0 +1,43 @@
+package com.fillumina.lcs.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the algorithms whose memory usage grows quadratically (either
+ * always like the score table ones or on different sequences like Myers)
+ * and all the algorithms of the {@code lcs-algorithms} module. Sequence
+ * lengths are limited so that the score tables fit in a default heap.
+ *
+ * @author Francesco Illuminati
+ */
+public class QuadraticSpaceLcsBenchmark extends AbstractLcsBenchmark {
+
+    @Param({
+        "MYERS",
+        "WAGNER_FISCHER",
+        "ADAPTIVE",
+        "INTERNING_MYERS",
+        "ALGORITHMS_MYERS",
+        "ALGORITHMS_OPTIMIZED_MYERS",
+        "ALGORITHMS_REVERSE_MYERS",
+        "ALGORITHMS_LINEAR_SPACE_MYERS",
+        "ALGORITHMS_HIRSCHBERG",
+        "ALGORITHMS_OPTIMIZED_HIRSCHBERG",
+        "ALGORITHMS_WAGNER_FISCHER",
+        "ALGORITHMS_SMITH_WATERMAN"
+    })
+    public LcsAlgorithm algorithm;
+
+    @Param({"10", "100", "1000"})
+    public int length;
+
+    @Override
+    protected LcsAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    protected int getLength() {
+        return length;
+    }
+}
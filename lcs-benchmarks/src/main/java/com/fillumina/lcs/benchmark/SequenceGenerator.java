@@ -0,0 +1,60 @@
+package com.fillumina.lcs.benchmark;
+
+import java.util.Random;
+
+/**
+ * Generates a pair of sequences of the same length drawn from an alphabet
+ * of the given size. The second sequence is a copy of the first one in which
+ * each element is replaced by a random symbol with probability
+ * {@code 1 - lcsRatio}, so {@code lcsRatio} is a lower bound of the
+ * (normalized) LCS length. Small alphabets raise the real LCS well above
+ * that bound because random symbols tend to match anyway.
+ * <p>
+ * The generation is deterministic: the same parameters always give the
+ * same sequences so that different algorithms are measured on the
+ * same input.
+ *
+ * @author Francesco Illuminati
+ */
+public class SequenceGenerator {
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final Integer[] a, b;
+
+    /**
+     * @param length        length of both the sequences
+     * @param lcsRatio      fraction of elements of the first sequence
+     *                      retained in the second one (from 0 to 1)
+     * @param alphabetSize  number of different symbols used
+     */
+    public SequenceGenerator(int length, double lcsRatio, int alphabetSize) {
+        if (lcsRatio < 0 || lcsRatio > 1) {
+            throw new IllegalArgumentException(
+                    "lcsRatio must be between 0 and 1: " + lcsRatio);
+        }
+        if (alphabetSize < 1) {
+            throw new IllegalArgumentException(
+                    "alphabetSize must be positive: " + alphabetSize);
+        }
+        final Random rnd = new Random(SEED);
+        this.a = new Integer[length];
+        this.b = new Integer[length];
+        int symbol;
+        for (int i = 0; i < length; i++) {
+            symbol = rnd.nextInt(alphabetSize);
+            a[i] = Integer.valueOf(symbol);
+            if (rnd.nextDouble() >= lcsRatio) {
+                symbol = rnd.nextInt(alphabetSize);
+            }
+            b[i] = Integer.valueOf(symbol);
+        }
+    }
+
+    public Integer[] getFirstSequence() {
+        return a;
+    }
+
+    public Integer[] getSecondSequence() {
+        return b;
+    }
+}
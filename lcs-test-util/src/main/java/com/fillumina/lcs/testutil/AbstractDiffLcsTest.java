@@ -0,0 +1,133 @@
+package com.fillumina.lcs.testutil;
+
+import com.fillumina.lcs.helper.LcsLength;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomIntegers;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * A test suite for the diff algorithms (i.e. patience or histogram diff)
+ * that always return a common subsequence but not necessarily the longest
+ * one. The result is compared against an optimal algorithm.
+ *
+ * @author Francesco Illuminati
+ */
+public abstract class AbstractDiffLcsTest {
+
+    public abstract LcsLength getLcsLengthAlgorithm();
+
+    /** @return an algorithm always returning the longest subsequence. */
+    public abstract LcsLength getOptimalLcsLengthAlgorithm();
+
+    @Test
+    public void shouldMatchTheFunctionsOfSourceCode() {
+        final String[] a = new String[] {
+            "void f() {", "  a();", "}", "",
+            "void g() {", "  b();", "}"};
+        final String[] b = new String[] {
+            "void f() {", "  a();", "}", "",
+            "void h() {", "  c();", "}", "",
+            "void g() {", "  b();", "}"};
+        final LcsLength algorithm = getLcsLengthAlgorithm();
+        assertEquals(Arrays.asList(a), algorithm.lcs(a, b));
+        assertEquals(7, algorithm.lcsLength(a, b));
+    }
+
+    @Test
+    public void shouldManageEmptyAndNullSequences() {
+        final LcsLength algorithm = getLcsLengthAlgorithm();
+        final String[] a = new String[] {"a", "b"};
+        assertTrue(algorithm.lcs(a, new String[0]).isEmpty());
+        assertTrue(algorithm.lcs(null, a).isEmpty());
+        assertEquals(0, algorithm.lcsLength(a, null));
+        assertEquals(0, algorithm.lcsLength(a, new String[] {"c"}));
+    }
+
+    @Test
+    public void shouldReturnACommonSubsequence() {
+        final LcsLength algorithm = getLcsLengthAlgorithm();
+        final LcsLength optimal = getOptimalLcsLengthAlgorithm();
+        final Random rnd = new Random(1);
+        long total = 0;
+        long longest = 0;
+        for (int i = 0; i < 300; i++) {
+            final Integer[] a = randomIntegers(rnd, rnd.nextInt(200),
+                    1 + rnd.nextInt(100));
+            final Integer[] b = mutate(rnd, a, rnd.nextInt(20));
+            final int length = checkCommonSubsequence(a, b,
+                    algorithm.lcs(a, b));
+            final int lcs = optimal.lcsLength(a, b);
+            assertTrue(length <= lcs);
+            assertEquals(length, algorithm.lcsLength(a, b));
+            total += length;
+            longest += lcs;
+        }
+        // almost always the longest on similar sequences
+        assertTrue(total * 100 > longest * 98);
+    }
+
+    @Test
+    public void shouldManageDifferentSequences() {
+        final LcsLength algorithm = getLcsLengthAlgorithm();
+        final Random rnd = new Random(2);
+        for (int i = 0; i < 300; i++) {
+            final Integer[] a = randomIntegers(rnd, rnd.nextInt(60), 4);
+            final Integer[] b = randomIntegers(rnd, rnd.nextInt(60), 4);
+            final int length = checkCommonSubsequence(a, b,
+                    algorithm.lcs(a, b));
+            assertEquals(length, algorithm.lcsLength(a, b));
+        }
+    }
+
+    /** @return the length of the subsequence found in both sequences. */
+    private static int checkCommonSubsequence(Object[] a, Object[] b,
+            List<?> lcs) {
+        assertTrue(isSubsequence(lcs, a));
+        assertTrue(isSubsequence(lcs, b));
+        return lcs.size();
+    }
+
+    private static boolean isSubsequence(List<?> list, Object[] array) {
+        int index = 0;
+        for (Object o : list) {
+            while (index < array.length && !Objects.equals(o, array[index])) {
+                index++;
+            }
+            if (index == array.length) {
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    /** Inserts, deletes or replaces some elements. */
+    private static Integer[] mutate(Random rnd, Integer[] array, int edits) {
+        final List<Integer> list = new ArrayList<>(
+                Arrays.asList(array));
+        for (int i = 0; i < edits; i++) {
+            final int index = rnd.nextInt(list.size() + 1);
+            switch (rnd.nextInt(3)) {
+                case 0:
+                    list.add(index, -rnd.nextInt(10));
+                    break;
+                case 1:
+                    if (index < list.size()) {
+                        list.remove(index);
+                    }
+                    break;
+                default:
+                    if (index < list.size()) {
+                        list.set(index, -rnd.nextInt(10));
+                    }
+            }
+        }
+        return list.toArray(new Integer[list.size()]);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fillumina.lcs.testutil;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the matches of an LCS, added in order, form a common
+ * subsequence of the two sequences and adds up their lengths.
+ *
+ * @author Francesco Illuminati
+ */
+public class CommonSubsequenceChecker {
+    private final List<?> a, b;
+    private int firstSequenceEnd;
+    private int secondSequenceEnd;
+    private int length;
+
+    public CommonSubsequenceChecker(List<?> a, List<?> b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    public CommonSubsequenceChecker(Object[] a, Object[] b) {
+        this(Arrays.asList(a), Arrays.asList(b));
+    }
+
+    public CommonSubsequenceChecker(int[] a, int[] b) {
+        this(asList(a), asList(b));
+    }
+
+    /**
+     * Asserts that the match follows the previous one and that its
+     * elements are equal in both the sequences.
+     */
+    public void addMatch(int firstSequenceIndex, int secondSequenceIndex,
+            int steps) {
+        assertTrue(firstSequenceIndex >= firstSequenceEnd);
+        assertTrue(secondSequenceIndex >= secondSequenceEnd);
+        for (int s = 0; s < steps; s++) {
+            assertEquals(a.get(firstSequenceIndex + s),
+                    b.get(secondSequenceIndex + s));
+        }
+        firstSequenceEnd = firstSequenceIndex + steps;
+        secondSequenceEnd = secondSequenceIndex + steps;
+        length += steps;
+    }
+
+    /** @return the index following the last match in the first sequence. */
+    public int getFirstSequenceEnd() {
+        return firstSequenceEnd;
+    }
+
+    /** @return the index following the last match in the second sequence. */
+    public int getSecondSequenceEnd() {
+        return secondSequenceEnd;
+    }
+
+    /** @return the sum of the lengths of the matches. */
+    public int getLength() {
+        return length;
+    }
+
+    private static List<Integer> asList(final int[] array) {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                return array[index];
+            }
+
+            @Override
+            public int size() {
+                return array.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.fillumina.lcs.testutil;
+
+/**
+ * A string that cannot be split with {@link #subSequence(int, int)}: it
+ * checks that an algorithm takes its decision only reading the chars (i.e.
+ * by some bounds) without passing parts of the string to another
+ * algorithm.
+ *
+ * @author Francesco Illuminati
+ */
+public class NotSplittableCharSequence implements CharSequence {
+    private final String string;
+
+    public NotSplittableCharSequence(String string) {
+        this.string = string;
+    }
+
+    @Override
+    public int length() {
+        return string.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return string.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        throw new UnsupportedOperationException(
+                "the sequence should not be split: " + string);
+    }
+
+    @Override
+    public String toString() {
+        return string;
+    }
+}
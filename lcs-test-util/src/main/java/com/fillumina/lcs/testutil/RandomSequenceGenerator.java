@@ -117,6 +117,56 @@ public class RandomSequenceGenerator {
         return seed;
     }
 
+    /**
+     * @return a random array of the given length with values between 0
+     *         (inclusive) and {@code alphabet} (exclusive).
+     */
+    public static int[] randomInts(Random rnd, int length, int alphabet) {
+        final int[] array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = rnd.nextInt(alphabet);
+        }
+        return array;
+    }
+
+    /**
+     * @return a random array of the given length with values between 0
+     *         (inclusive) and {@code alphabet} (exclusive).
+     */
+    public static Integer[] randomIntegers(Random rnd, int length,
+            int alphabet) {
+        final Integer[] array = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = rnd.nextInt(alphabet);
+        }
+        return array;
+    }
+
+    /**
+     * @return a random string of the given length made of the first
+     *         {@code alphabet} lowercase letters.
+     */
+    public static String randomString(Random rnd, int length, int alphabet) {
+        final char[] array = new char[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = (char) ('a' + rnd.nextInt(alphabet));
+        }
+        return new String(array);
+    }
+
+    /**
+     * @return a copy of the string with up to 5 chars replaced by the first
+     *         {@code alphabet} lowercase letters.
+     */
+    public static String mutateString(Random rnd, String s, int alphabet) {
+        final StringBuilder buf = new StringBuilder(s);
+        for (int i = rnd.nextInt(5); i >= 0 && buf.length() > 0; i--) {
+            buf.setCharAt(rnd.nextInt(buf.length()),
+                    (char) ('a' + rnd.nextInt(alphabet)));
+        }
+        return buf.toString();
+    }
+
     @Override
     public String toString() {
         return "RandomSequenceGenerator (lcs= " + lcs +
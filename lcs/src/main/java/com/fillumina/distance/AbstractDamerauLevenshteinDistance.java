@@ -0,0 +1,137 @@
+package com.fillumina.distance;
+
+/**
+ * Calculates the (unrestricted) Damerau-Levenshtein distance: the minimum
+ * number of insertions, deletions, substitutions and transpositions of
+ * two adjacent elements to transform a sequence into the other. Unlike
+ * {@link AbstractOptimalStringAlignmentDistance} elements can be edited
+ * after being transposed (i.e. "ca" to "abc" is 2 instead of 3).
+ * <p>
+ * The algorithm by Lowrance and Wagner needs, for each cell, the row of
+ * the last match of the current element of the second sequence that
+ * could be anywhere above so the whole table is kept in memory
+ * ({@code O(n*m)} space). The alphabet is never needed because the last
+ * matching row of each column and the last matching column of the
+ * current row are tracked while the table is filled.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Damerau%E2%80%93Levenshtein_distance">
+ *  Damerau-Levenshtein distance
+ * </a>
+ *
+ * @author Francesco Illuminati
+ */
+public abstract class AbstractDamerauLevenshteinDistance {
+
+    /** @return the length of the first sequence. */
+    protected abstract int getFirstSequenceLength();
+
+    /** @return the length of the second sequence. */
+    protected abstract int getSecondSequenceLength();
+
+    /** @return {@code true} when the elements at the specified indexes
+     *          matches.
+     */
+    protected abstract boolean sameAtIndex(int x, int y);
+
+    public int distance() {
+        return calculate(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Calculates the distance only if it's not greater than
+     * {@code maxDistance}, otherwise returns {@code maxDistance + 1}.
+     * The minimum of a row never decreases (a transposition cannot cost
+     * less than the deletions to reach the previous row) so the
+     * calculation stops as soon as all the cells of a row exceed
+     * {@code maxDistance}.
+     *
+     * @return the distance or {@code maxDistance + 1} if greater
+     */
+    public int distance(int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException(
+                    "maxDistance cannot be negative: " + maxDistance);
+        }
+        final int n = getFirstSequenceLength();
+        final int m = getSecondSequenceLength();
+        // the distance is at least the difference of the lengths
+        if (n - m > maxDistance || m - n > maxDistance) {
+            return maxDistance + 1;
+        }
+        final int distance = calculate(maxDistance);
+        return distance > maxDistance ? maxDistance + 1 : distance;
+    }
+
+    /** @return the distance or a value greater than {@code k}. */
+    private int calculate(final int k) {
+        final int n = getFirstSequenceLength();
+        final int m = getSecondSequenceLength();
+
+        if (n == 0) {
+            return m;
+        }
+        if (m == 0) {
+            return n;
+        }
+
+        // d[i][j] is the distance between the prefixes of length i and j
+        final int[][] d = new int[n + 1][m + 1];
+        for (int j = 0; j <= m; j++) {
+            d[0][j] = j;
+        }
+        // the last row (before the current one) matching each column
+        final int[] lastRow = new int[m];
+        for (int j = 0; j < m; j++) {
+            lastRow[j] = -1;
+        }
+
+        for (int i = 0; i < n; i++) {
+            final int[] v0 = d[i];
+            final int[] v1 = d[i + 1];
+            v1[0] = i + 1;
+            int rowMin = v1[0];
+            // the last column (before the current one) matching this row
+            int lastColumn = -1;
+            for (int j = 0; j < m; j++) {
+                final boolean same = sameAtIndex(i, j);
+                int value = min(v1[j] + 1, v0[j + 1] + 1,
+                        v0[j] + (same ? 0 : 1));
+                final int r = lastRow[j];
+                final int c = lastColumn;
+                if (r >= 0 && c >= 0) {
+                    // deletes the elements between the row r and i, swaps
+                    // and inserts the elements between the column c and j
+                    final int transposition =
+                            d[r][c] + (i - r - 1) + 1 + (j - c - 1);
+                    if (transposition < value) {
+                        value = transposition;
+                    }
+                }
+                if (same) {
+                    lastRow[j] = i;
+                    lastColumn = j;
+                }
+                v1[j + 1] = value;
+                if (value < rowMin) {
+                    rowMin = value;
+                }
+            }
+            if (rowMin > k) {
+                return rowMin;
+            }
+        }
+
+        return d[n][m];
+    }
+
+    static int min(int a, int b, int c) {
+        int mi = a;
+        if (b < mi) {
+            mi = b;
+        }
+        if (c < mi) {
+            mi = c;
+        }
+        return mi;
+    }
+}
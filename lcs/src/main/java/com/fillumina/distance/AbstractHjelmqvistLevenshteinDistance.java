@@ -52,15 +52,7 @@ public abstract class AbstractHjelmqvistLevenshteinDistance {
         for (int i = 0; i < n; i++) {
             // calculate v1 (current row distances) from the previous row v0
 
-            // first element of v1 is A[i+1][0]
-            //   edit distance is delete (i+1) chars from s to match empty t
-            v1[0] = i + 1;
-
-            // use formula to fill in the rest of the row
-            for (int j = 0; j < m; j++) {
-                int cost = sameAtIndex(i,j) ? 0 : 1;
-                v1[j + 1] = min(v1[j] + 1, v0[j + 1] + 1, v0[j] + cost);
-            }
+            nextRow(i, v0, v1);
 
             // copy v1 (current row) to v0 (previous row) for next iteration
 
@@ -75,6 +67,109 @@ public abstract class AbstractHjelmqvistLevenshteinDistance {
         return v1[m];
     }
 
+    /**
+     * Calculates the row {@code i + 1} of the distance table into {@code v1}
+     * from the row {@code i} in {@code v0}. Algorithms building the rows
+     * incrementally (i.e. on the shared prefixes of a trie) can call it
+     * on each new element of the first sequence.
+     *
+     * @return the minimum value of the row (a lower bound of the distance)
+     */
+    protected final int nextRow(final int i, final int[] v0, final int[] v1) {
+        final int m = getSecondSequenceLength();
+
+        // first element of v1 is A[i+1][0]
+        //   edit distance is delete (i+1) chars from s to match empty t
+        v1[0] = i + 1;
+        int rowMin = v1[0];
+
+        // use formula to fill in the rest of the row
+        for (int j = 0; j < m; j++) {
+            int cost = sameAtIndex(i,j) ? 0 : 1;
+            final int value = min(v1[j] + 1, v0[j + 1] + 1, v0[j] + cost);
+            v1[j + 1] = value;
+            if (value < rowMin) {
+                rowMin = value;
+            }
+        }
+        return rowMin;
+    }
+
+    /**
+     * Calculates the distance only if it's not greater than
+     * {@code maxDistance}, otherwise returns {@code maxDistance + 1}.
+     * Only the cells of the diagonal band that can have a distance lower
+     * than {@code maxDistance} are calculated (Ukkonen cut-off) and the
+     * calculation stops as soon as all the cells of a row exceed it, so
+     * dissimilar sequences are rejected in {@code O(maxDistance * n)}.
+     *
+     * @return the distance or {@code maxDistance + 1} if greater
+     */
+    public int distance(int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException(
+                    "maxDistance cannot be negative: " + maxDistance);
+        }
+        final int n = getFirstSequenceLength();
+        final int m = getSecondSequenceLength();
+        final int k = maxDistance;
+        // any value greater than k is considered the same
+        final int over = k + 1;
+
+        // the distance is at least the difference of the lengths
+        if (n - m > k || m - n > k) {
+            return over;
+        }
+        if (n == 0) {
+            return m;
+        }
+        if (m == 0) {
+            return n;
+        }
+
+        // the cells out of the band are never calculated
+        int[] v0 = new int[m + 1];
+        int[] v1 = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            v0[j] = j <= k ? j : over;
+            v1[j] = over;
+        }
+
+        int[] tmp;
+        for (int i = 0; i < n; i++) {
+            final int row = i + 1;
+            final int from = row - k > 1 ? row - k : 1;
+            final int to = row + k < m ? row + k : m;
+
+            // the cell on the left of the band
+            if (from == 1) {
+                v1[0] = row <= k ? row : over;
+            } else {
+                v1[from - 1] = over;
+            }
+
+            int rowMin = v1[from - 1];
+            for (int j = from; j <= to; j++) {
+                int cost = sameAtIndex(i, j - 1) ? 0 : 1;
+                final int value =
+                        min(v1[j - 1] + 1, v0[j] + 1, v0[j - 1] + cost);
+                v1[j] = value;
+                if (value < rowMin) {
+                    rowMin = value;
+                }
+            }
+            if (rowMin > k) {
+                return over;
+            }
+
+            tmp = v0;
+            v0 = v1;
+            v1 = tmp;
+        }
+
+        return v0[m] > k ? over : v0[m];
+    }
+
     static int min(int a, int b, int c) {
         int mi = a;
         if (b < mi) {
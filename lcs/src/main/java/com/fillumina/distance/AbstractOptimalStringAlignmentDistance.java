@@ -0,0 +1,121 @@
+package com.fillumina.distance;
+
+/**
+ * Calculates the optimal string alignment distance (also known as
+ * restricted Damerau-Levenshtein distance): the Levenshtein distance where
+ * the transposition of two adjacent elements counts as a single edit
+ * (i.e. "ca" to "ac" is 1) but no substring can be edited more than once.
+ * It's the usual choice for typo correction because it only needs the
+ * last three rows of the table (linear space) and it's as fast as
+ * {@link AbstractHjelmqvistLevenshteinDistance}.
+ *
+ * @see AbstractDamerauLevenshteinDistance
+ * @see <a href="https://en.wikipedia.org/wiki/Damerau%E2%80%93Levenshtein_distance">
+ *  Damerau-Levenshtein distance
+ * </a>
+ *
+ * @author Francesco Illuminati
+ */
+public abstract class AbstractOptimalStringAlignmentDistance {
+
+    /** @return the length of the first sequence. */
+    protected abstract int getFirstSequenceLength();
+
+    /** @return the length of the second sequence. */
+    protected abstract int getSecondSequenceLength();
+
+    /** @return {@code true} when the elements at the specified indexes
+     *          matches.
+     */
+    protected abstract boolean sameAtIndex(int x, int y);
+
+    public int distance() {
+        return calculate(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Calculates the distance only if it's not greater than
+     * {@code maxDistance}, otherwise returns {@code maxDistance + 1}.
+     * The minimum of a row never decreases so the calculation stops as
+     * soon as all the cells of a row exceed {@code maxDistance}.
+     *
+     * @return the distance or {@code maxDistance + 1} if greater
+     */
+    public int distance(int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException(
+                    "maxDistance cannot be negative: " + maxDistance);
+        }
+        final int n = getFirstSequenceLength();
+        final int m = getSecondSequenceLength();
+        // the distance is at least the difference of the lengths
+        if (n - m > maxDistance || m - n > maxDistance) {
+            return maxDistance + 1;
+        }
+        final int distance = calculate(maxDistance);
+        return distance > maxDistance ? maxDistance + 1 : distance;
+    }
+
+    /** @return the distance or a value greater than {@code k}. */
+    private int calculate(final int k) {
+        final int n = getFirstSequenceLength();
+        final int m = getSecondSequenceLength();
+
+        if (n == 0) {
+            return m;
+        }
+        if (m == 0) {
+            return n;
+        }
+
+        // the rows i - 1, i and i + 1 of the table
+        int[] v2 = new int[m + 1];
+        int[] v0 = new int[m + 1];
+        int[] v1 = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            v0[j] = j;
+        }
+
+        int[] tmp;
+        for (int i = 0; i < n; i++) {
+            v1[0] = i + 1;
+            int rowMin = v1[0];
+            for (int j = 0; j < m; j++) {
+                final boolean same = sameAtIndex(i, j);
+                int value = min(v1[j] + 1, v0[j + 1] + 1,
+                        v0[j] + (same ? 0 : 1));
+                if (!same && i > 0 && j > 0 &&
+                        v2[j - 1] + 1 < value &&
+                        sameAtIndex(i, j - 1) && sameAtIndex(i - 1, j)) {
+                    // transposition
+                    value = v2[j - 1] + 1;
+                }
+                v1[j + 1] = value;
+                if (value < rowMin) {
+                    rowMin = value;
+                }
+            }
+            if (rowMin > k) {
+                return rowMin;
+            }
+
+            tmp = v2;
+            v2 = v0;
+            v0 = v1;
+            v1 = tmp;
+        }
+
+        return v0[m];
+    }
+
+    static int min(int a, int b, int c) {
+        int mi = a;
+        if (b < mi) {
+            mi = b;
+        }
+        if (c < mi) {
+            mi = c;
+        }
+        return mi;
+    }
+}
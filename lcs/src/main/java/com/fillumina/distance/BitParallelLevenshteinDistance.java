@@ -0,0 +1,172 @@
+package com.fillumina.distance;
+
+import com.fillumina.lcs.CharInterner;
+import java.util.Arrays;
+
+/**
+ * Calculates the Levenshtein distance using the bit-vector algorithm by
+ * Myers (1999) in the formulation of Hyyro: the vertical differences of a
+ * column of the score table are kept as bits so 64 cells are calculated
+ * with a few word operations. Patterns longer than 64 elements are divided
+ * in blocks of 64 passing the horizontal differences from one block to the
+ * next. It takes {@code O(n*m/64)} time and it is much faster than
+ * {@link StringHjelmqvistLevenshteinDistance} on any string.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Levenshtein_distance">
+ *  Levenshtein distance
+ * </a>
+ * @see <a href='http://www.gersteinlab.org/courses/452/09-spring/pdf/Myers.pdf'>
+ *  A fast bit-vector algorithm for approximate string matching based
+ *  on dynamic programming (Gene Myers)
+ * </a>
+ *
+ * @author Francesco Illuminati
+ */
+public class BitParallelLevenshteinDistance {
+
+    private BitParallelLevenshteinDistance() {}
+
+    public static int distance(final String a, final String b) {
+        return distance(a.toCharArray(), b.toCharArray());
+    }
+
+    public static int distance(final char[] a, final char[] b) {
+        final int n = a.length;
+        final int m = b.length;
+        final int min = n < m ? n : m;
+
+        // equal heads and tails don't change the distance
+        int head;
+        for (head = 0; head < min && a[head] == b[head]; head++) {}
+        int tail;
+        for (tail = 0; tail < min - head &&
+                a[n - 1 - tail] == b[m - 1 - tail]; tail++) {}
+
+        final int an = n - head - tail;
+        final int bm = m - head - tail;
+        if (an == 0) {
+            return bm;
+        }
+        if (bm == 0) {
+            return an;
+        }
+
+        // the pattern is the sequence that needs less word operations
+        if (((an + 63) >>> 6) * (long) bm <= ((bm + 63) >>> 6) * (long) an) {
+            return distance(a, head, an, b, head, bm);
+        }
+        return distance(b, head, bm, a, head, an);
+    }
+
+    /** The pattern {@code p} is encoded as bits. */
+    private static int distance(final char[] p, final int p0, final int n,
+            final char[] t, final int t0, final int m) {
+        // the distinct elements of the pattern are the alphabet
+        final CharInterner interner = new CharInterner(n);
+        final int[] rows = new int[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = interner.intern(p[p0 + i]) + 1;
+        }
+
+        // pattern masks (the row 0 is for the elements not in pattern)
+        final int words = (n + 63) >>> 6;
+        final long[] pm = new long[(interner.size() + 1) * words];
+        for (int i = 0; i < n; i++) {
+            pm[rows[i] * words + (i >>> 6)] |= 1L << (i & 63);
+        }
+
+        final int[] text = new int[m];
+        for (int j = 0; j < m; j++) {
+            // NOT_FOUND (-1) becomes the empty row
+            text[j] = interner.idOf(t[t0 + j]) + 1;
+        }
+        return distanceOfRows(pm, words, n, text, m,
+                new long[words], new long[words]);
+    }
+
+    /**
+     * @param pm    the masks of the pattern: the ones of the row {@code r}
+     *              start at {@code r * words}
+     * @param n     the length of the pattern
+     * @param text  the rows of the elements of the text
+     * @param vp    buffer of {@code words} elements
+     * @param vn    buffer of {@code words} elements
+     * @return the Levenshtein distance between pattern and text
+     */
+    static int distanceOfRows(final long[] pm, final int words, final int n,
+            final int[] text, final int m, final long[] vp, final long[] vn) {
+        if (n == 0) {
+            return m;
+        }
+        if (words == 1) {
+            return singleWordDistance(pm, n, text, m);
+        }
+        Arrays.fill(vp, 0, words, -1L);
+        Arrays.fill(vn, 0, words, 0);
+        final long last = 1L << ((n - 1) & 63);
+        final int lastWord = words - 1;
+        int score = n;
+
+        long x, d0, hp, hn, hpCarry, hnCarry, tmp;
+        for (int j = 0; j < m; j++) {
+            final int base = text[j] * words;
+
+            // the first row of the table always increments by 1
+            hpCarry = 1;
+            hnCarry = 0;
+            for (int w = 0; w < words; w++) {
+                x = pm[base + w] | hnCarry;
+                d0 = (((x & vp[w]) + vp[w]) ^ vp[w]) | x | vn[w];
+                hp = vn[w] | ~(d0 | vp[w]);
+                hn = d0 & vp[w];
+
+                tmp = hpCarry;
+                hpCarry = w == lastWord ?
+                        ((hp & last) != 0 ? 1 : 0) : hp >>> 63;
+                hp = (hp << 1) | tmp;
+
+                tmp = hnCarry;
+                hnCarry = w == lastWord ?
+                        ((hn & last) != 0 ? 1 : 0) : hn >>> 63;
+                hn = (hn << 1) | tmp;
+
+                vp[w] = hn | ~(d0 | hp);
+                vn[w] = hp & d0;
+            }
+            // the carries of the last word are the changes of the score
+            score += hpCarry - hnCarry;
+        }
+        return score;
+    }
+
+    /**
+     * The most common case of short strings where the whole column fits
+     * in a single word.
+     */
+    private static int singleWordDistance(final long[] pm, final int n,
+            final int[] text, final int m) {
+        final long last = 1L << (n - 1);
+        long vp = -1L;
+        long vn = 0;
+        int score = n;
+
+        long x, d0, hp, hn;
+        for (int j = 0; j < m; j++) {
+            x = pm[text[j]];
+            d0 = (((x & vp) + vp) ^ vp) | x | vn;
+            hp = vn | ~(d0 | vp);
+            hn = d0 & vp;
+            if ((hp & last) != 0) {
+                score++;
+            } else if ((hn & last) != 0) {
+                score--;
+            }
+            // the first row of the table always increments by 1
+            hp = (hp << 1) | 1;
+            hn = hn << 1;
+            vp = hn | ~(d0 | hp);
+            vn = hp & d0;
+        }
+        return score;
+    }
+}
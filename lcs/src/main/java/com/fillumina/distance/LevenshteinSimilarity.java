@@ -0,0 +1,85 @@
+package com.fillumina.distance;
+
+import com.fillumina.lcs.SimilarityBounds;
+
+/**
+ * Scores the similarity of two strings from their Levenshtein distance
+ * as {@code 1 - distance / max(n, m)}: it goes from 0 (every char must be
+ * edited) to 1 (equal strings).
+ * <p>
+ * {@link #similarityAtLeast(CharSequence, CharSequence, double)} is meant
+ * to filter many pairs (i.e. in a matching pipeline): it first checks some
+ * cheap lower bounds of the distance (the difference of the lengths and
+ * the {@link SimilarityBounds}) and only if they cannot reject the pair
+ * it runs the bounded {@link StringHjelmqvistLevenshteinDistance} that
+ * only calculates the band of the table within the allowed distance.
+ *
+ * @author Francesco Illuminati
+ */
+public class LevenshteinSimilarity {
+    private LevenshteinSimilarity() {}
+
+    /** @return the similarity in [0, 1] (two empty strings are equal). */
+    public static double similarity(CharSequence a, CharSequence b) {
+        final String sa = a == null ? "" : a.toString();
+        final String sb = b == null ? "" : b.toString();
+        final int max = Math.max(sa.length(), sb.length());
+        if (max == 0) {
+            return 1;
+        }
+        return ratio(BitParallelLevenshteinDistance.distance(sa, sb), max);
+    }
+
+    /**
+     * @return {@code true} if
+     *         {@code similarity(a, b) >= threshold} (it's faster).
+     */
+    public static boolean similarityAtLeast(CharSequence a, CharSequence b,
+            double threshold) {
+        final CharSequence sa = a == null ? "" : a;
+        final CharSequence sb = b == null ? "" : b;
+        final int n = sa.length();
+        final int m = sb.length();
+        final int max = n > m ? n : m;
+        if (max == 0) {
+            return 1 >= threshold;
+        }
+        if (ratio(0, max) < threshold) {
+            return false;
+        }
+
+        // the maximum distance reaching the threshold
+        int allowed = (int) Math.floor((1 - threshold) * max);
+        if (allowed > max) {
+            allowed = max;
+        }
+        while (allowed < max && ratio(allowed + 1, max) >= threshold) {
+            allowed++;
+        }
+        while (ratio(allowed, max) < threshold) {
+            allowed--;
+        }
+
+        // the distance is at least the difference of the lengths
+        if (n - m > allowed || m - n > allowed) {
+            return false;
+        }
+
+        final SimilarityBounds bounds = new SimilarityBounds(sa, sb);
+        if (bounds.getMinDistance() > allowed) {
+            return false;
+        }
+
+        // equal heads and tails don't change the distance
+        final int head = bounds.getHead();
+        final int tail = bounds.getTail();
+        return StringHjelmqvistLevenshteinDistance.distance(
+                sa.subSequence(head, n - tail).toString(),
+                sb.subSequence(head, m - tail).toString(),
+                allowed) <= allowed;
+    }
+
+    private static double ratio(int distance, int max) {
+        return 1 - (double) distance / max;
+    }
+}
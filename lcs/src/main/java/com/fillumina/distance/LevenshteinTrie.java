@@ -0,0 +1,255 @@
+package com.fillumina.distance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * An index of words for fuzzy lookups (i.e. spelling suggestions) by
+ * Levenshtein distance. The words are kept in a trie and the rows of the
+ * {@link AbstractHjelmqvistLevenshteinDistance} table against the query
+ * are calculated once for each node so words sharing a prefix share its
+ * rows. Subtrees are skipped as soon as the minimum of a row is greater
+ * than the searched distance (it can only grow going down), so only a
+ * small part of the dictionary is usually visited.
+ * <p>
+ * Searches can run concurrently but not with {@link #add(String)}.
+ *
+ * @see <a href='http://stevehanov.ca/blog/index.php?id=114'>
+ *  Fast and Easy Levenshtein distance using a Trie (Steve Hanov)
+ * </a>
+ *
+ * @author Francesco Illuminati
+ */
+public class LevenshteinTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+    private int size;
+    private int maxLength;
+
+    /** @return {@code true} if the word was not already in the index. */
+    public boolean add(String word) {
+        Node node = root;
+        for (int i = 0, l = word.length(); i < l; i++) {
+            node = node.getOrCreateChild(word.charAt(i));
+        }
+        if (node.word != null) {
+            return false;
+        }
+        node.word = word;
+        size++;
+        if (word.length() > maxLength) {
+            maxLength = word.length();
+        }
+        return true;
+    }
+
+    /** @return the number of words in the index. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the words within {@code maxDistance} from the query ordered
+     *         by distance (and then alphabetically).
+     */
+    public List<Match> search(String query, final int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException(
+                    "maxDistance cannot be negative: " + maxDistance);
+        }
+        final List<Match> result = new ArrayList<>();
+        new Search(query) {
+            @Override
+            int bound() {
+                return maxDistance;
+            }
+
+            @Override
+            void found(String word, int distance) {
+                result.add(new Match(word, distance));
+            }
+        }.run();
+        Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * @return the {@code k} words nearest to the query ordered by distance
+     *         (and then alphabetically).
+     */
+    public List<Match> nearest(String query, final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException(
+                    "k cannot be negative: " + k);
+        }
+        if (k == 0) {
+            return Collections.emptyList();
+        }
+        // the worst match is on top
+        final PriorityQueue<Match> heap = new PriorityQueue<>(k,
+                Collections.reverseOrder());
+        new Search(query) {
+            @Override
+            int bound() {
+                // words are visited in alphabetical order so a later word
+                // with the same distance of the worst one cannot replace it
+                return heap.size() < k ?
+                        Integer.MAX_VALUE : heap.peek().distance - 1;
+            }
+
+            @Override
+            void found(String word, int distance) {
+                if (heap.size() == k) {
+                    heap.poll();
+                }
+                heap.add(new Match(word, distance));
+            }
+        }.run();
+        final List<Match> result = new ArrayList<>(heap);
+        Collections.sort(result);
+        return result;
+    }
+
+    /** A word and its distance from the query. */
+    public static class Match implements Comparable<Match> {
+        private final String word;
+        private final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        @Override
+        public int compareTo(Match o) {
+            if (distance != o.distance) {
+                return distance < o.distance ? -1 : 1;
+            }
+            return word.compareTo(o.word);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * word.hashCode() + distance;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Match)) {
+                return false;
+            }
+            final Match other = (Match) obj;
+            return distance == other.distance && word.equals(other.word);
+        }
+
+        @Override
+        public String toString() {
+            return word + "(" + distance + ")";
+        }
+    }
+
+    /**
+     * Visits the trie depth first calculating a row of the table for each
+     * node: the first sequence is the path from the root and the second
+     * one is the query.
+     */
+    private abstract class Search
+            extends AbstractHjelmqvistLevenshteinDistance {
+        private final String query;
+        private final char[] path;
+        // the rows of the nodes of the current path
+        private final int[][] rows;
+
+        Search(String query) {
+            this.query = query;
+            this.path = new char[maxLength];
+            this.rows = new int[maxLength + 1][query.length() + 1];
+            for (int j = 0; j <= query.length(); j++) {
+                rows[0][j] = j;
+            }
+        }
+
+        /** @return the maximum distance of the words still accepted. */
+        abstract int bound();
+
+        abstract void found(String word, int distance);
+
+        void run() {
+            visit(root, 0);
+        }
+
+        private void visit(Node node, int depth) {
+            final int[] row = rows[depth];
+            if (node.word != null && row[query.length()] <= bound()) {
+                found(node.word, row[query.length()]);
+            }
+            for (int c = 0; c < node.keys.length; c++) {
+                path[depth] = node.keys[c];
+                final int rowMin = nextRow(depth, row, rows[depth + 1]);
+                if (rowMin <= bound()) {
+                    visit(node.children[c], depth + 1);
+                }
+            }
+        }
+
+        @Override
+        protected int getFirstSequenceLength() {
+            return path.length;
+        }
+
+        @Override
+        protected int getSecondSequenceLength() {
+            return query.length();
+        }
+
+        @Override
+        protected boolean sameAtIndex(int x, int y) {
+            return path[x] == query.charAt(y);
+        }
+    }
+
+    /** The children are ordered by key so words are visited in order. */
+    private static class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private String word;
+
+        Node getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -index - 1;
+            final int length = keys.length;
+            final char[] newKeys = new char[length + 1];
+            final Node[] newChildren = new Node[length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index, newKeys, index + 1, length - index);
+            System.arraycopy(children, index,
+                    newChildren, index + 1, length - index);
+            final Node child = new Node();
+            newKeys[index] = c;
+            newChildren[index] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.fillumina.distance;
+
+import com.fillumina.lcs.CharInterner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calculates the Levenshtein distance of a query string against many
+ * candidates (i.e. for deduplication). The bit masks of the query used by
+ * the bit-parallel algorithm of {@link BitParallelLevenshteinDistance} are
+ * built only once and the working buffers are reused across candidates,
+ * so that each comparison only costs {@code O(m*ceil(n/64))}.
+ * Candidates can also be compared in parallel. A {@code null} query or
+ * candidate is empty.
+ * <p>
+ * Instances are immutable and thread safe.
+ *
+ * @author Francesco Illuminati
+ */
+public class PreparedLevenshteinQuery {
+    /** Candidates compared by a single task in parallel mode. */
+    private static final int PARALLEL_CHUNK = 64;
+
+    private final int n;
+    private final int words;
+    private final CharInterner interner;
+    // the row 0 (for chars not in query) is empty
+    private final long[] masks;
+
+    private PreparedLevenshteinQuery(CharSequence query) {
+        this.n = query.length();
+        this.words = Math.max(1, (n + 63) >>> 6);
+        this.interner = new CharInterner(n);
+        final int[] rows = interner.intern(query);
+        this.masks = new long[(interner.size() + 1) * words];
+        for (int i = 0; i < n; i++) {
+            masks[(rows[i] + 1) * words + (i >>> 6)] |= 1L << (i & 63);
+        }
+    }
+
+    public static PreparedLevenshteinQuery prepare(CharSequence query) {
+        return new PreparedLevenshteinQuery(query == null ? "" : query);
+    }
+
+    /** @return the Levenshtein distance between the query and candidate. */
+    public int distance(CharSequence candidate) {
+        return distance(candidate, new Buffer(words));
+    }
+
+    /** @return the distances from each of the candidates. */
+    public int[] distanceAll(CharSequence[] candidates) {
+        final int[] result = new int[candidates.length];
+        final Buffer buffer = new Buffer(words);
+        for (int i = 0; i < candidates.length; i++) {
+            result[i] = distance(candidates[i], buffer);
+        }
+        return result;
+    }
+
+    /**
+     * Compares the candidates in parallel using the given pool.
+     *
+     * @return the distances from each of the candidates.
+     */
+    public int[] distanceAll(CharSequence[] candidates, ForkJoinPool pool) {
+        final int[] result = new int[candidates.length];
+        pool.invoke(new DistanceTask(candidates, result,
+                0, candidates.length));
+        return result;
+    }
+
+    private class DistanceTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CharSequence[] candidates;
+        private final int[] result;
+        private final int start, end;
+
+        DistanceTask(CharSequence[] candidates, int[] result,
+                int start, int end) {
+            this.candidates = candidates;
+            this.result = result;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= PARALLEL_CHUNK) {
+                final Buffer buffer = new Buffer(words);
+                for (int i = start; i < end; i++) {
+                    result[i] = distance(candidates[i], buffer);
+                }
+            } else {
+                final int middle = (start + end) >>> 1;
+                invokeAll(new DistanceTask(candidates, result, start, middle),
+                        new DistanceTask(candidates, result, middle, end));
+            }
+        }
+    }
+
+    /** The rows of the chars of a candidate and the bit vectors. */
+    private static class Buffer {
+        final long[] vp, vn;
+        int[] text = new int[0];
+
+        Buffer(int words) {
+            this.vp = new long[words];
+            this.vn = new long[words];
+        }
+    }
+
+    private int distance(CharSequence t, Buffer buffer) {
+        final int m = t == null ? 0 : t.length();
+        if (n == 0 || m == 0) {
+            return n + m;
+        }
+        if (buffer.text.length < m) {
+            buffer.text = new int[m];
+        }
+        final int[] text = buffer.text;
+        for (int j = 0; j < m; j++) {
+            // NOT_FOUND (-1) becomes the empty row
+            text[j] = interner.idOf(t.charAt(j)) + 1;
+        }
+        return BitParallelLevenshteinDistance.distanceOfRows(masks, words, n,
+                text, m, buffer.vp, buffer.vn);
+    }
+}
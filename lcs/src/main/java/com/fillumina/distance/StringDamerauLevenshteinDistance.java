@@ -0,0 +1,51 @@
+package com.fillumina.distance;
+
+/**
+ * An implementation of the {@link AbstractDamerauLevenshteinDistance}
+ * to return the distance between 2 strings counting the transposition of
+ * two adjacent chars as a single edit.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Damerau%E2%80%93Levenshtein_distance">
+ *  Damerau-Levenshtein distance
+ * </a>
+ *
+ * @author Francesco Illuminati
+ */
+public class StringDamerauLevenshteinDistance
+        extends AbstractDamerauLevenshteinDistance {
+    private final String a, b;
+
+    public static int distance(final String a, final String b) {
+        return new StringDamerauLevenshteinDistance(a, b).distance();
+    }
+
+    /**
+     * @return the distance between the strings or {@code maxDistance + 1}
+     *         if it's greater than {@code maxDistance}.
+     */
+    public static int distance(final String a, final String b,
+            final int maxDistance) {
+        return new StringDamerauLevenshteinDistance(a, b)
+                .distance(maxDistance);
+    }
+
+    private StringDamerauLevenshteinDistance(String a, String b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    @Override
+    protected int getFirstSequenceLength() {
+        return a.length();
+    }
+
+    @Override
+    protected int getSecondSequenceLength() {
+        return b.length();
+    }
+
+    @Override
+    protected boolean sameAtIndex(int x, int y) {
+        return a.charAt(x) == b.charAt(y);
+    }
+}
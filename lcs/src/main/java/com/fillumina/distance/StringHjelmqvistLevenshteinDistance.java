@@ -21,6 +21,16 @@ public class StringHjelmqvistLevenshteinDistance
         return new StringHjelmqvistLevenshteinDistance(a, b).distance();
     }
 
+    /**
+     * @return the distance between the strings or {@code maxDistance + 1}
+     *         if it's greater than {@code maxDistance}.
+     */
+    public static int distance(final String a, final String b,
+            final int maxDistance) {
+        return new StringHjelmqvistLevenshteinDistance(a, b)
+                .distance(maxDistance);
+    }
+
     private StringHjelmqvistLevenshteinDistance(String a, String b) {
         this.a = a;
         this.b = b;
@@ -0,0 +1,51 @@
+package com.fillumina.distance;
+
+/**
+ * An implementation of the {@link AbstractOptimalStringAlignmentDistance}
+ * to return the distance between 2 strings counting the transposition of
+ * two adjacent chars as a single edit (i.e. to use for typo correction).
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Damerau%E2%80%93Levenshtein_distance">
+ *  Damerau-Levenshtein distance
+ * </a>
+ *
+ * @author Francesco Illuminati
+ */
+public class StringOptimalStringAlignmentDistance
+        extends AbstractOptimalStringAlignmentDistance {
+    private final String a, b;
+
+    public static int distance(final String a, final String b) {
+        return new StringOptimalStringAlignmentDistance(a, b).distance();
+    }
+
+    /**
+     * @return the distance between the strings or {@code maxDistance + 1}
+     *         if it's greater than {@code maxDistance}.
+     */
+    public static int distance(final String a, final String b,
+            final int maxDistance) {
+        return new StringOptimalStringAlignmentDistance(a, b)
+                .distance(maxDistance);
+    }
+
+    private StringOptimalStringAlignmentDistance(String a, String b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    @Override
+    protected int getFirstSequenceLength() {
+        return a.length();
+    }
+
+    @Override
+    protected int getSecondSequenceLength() {
+        return b.length();
+    }
+
+    @Override
+    protected boolean sameAtIndex(int x, int y) {
+        return a.charAt(x) == b.charAt(y);
+    }
+}
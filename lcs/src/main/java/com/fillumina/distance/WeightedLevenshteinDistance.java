@@ -0,0 +1,377 @@
+package com.fillumina.distance;
+
+import java.util.Arrays;
+
+/**
+ * Calculates the edit distance with a cost for each operation and symbol
+ * (i.e. keyboard adjacency or OCR confusion tables). The sequences are
+ * arrays of symbol ids in {@code [0, alphabetSize)} (see
+ * {@link com.fillumina.lcs.Interner}) used as indexes into the cost
+ * tables so that no allocation or boxing is needed to find a cost.
+ * <p>
+ * The distance is calculated on a single row of the table
+ * ({@code O(m)} space). The alignment (the operations of a cheapest
+ * transformation) is found with the Hirschberg divide and conquer
+ * algorithm in linear space and about twice the time.
+ * Instances are immutable and thread safe.
+ *
+ * @see <a href='https://en.wikipedia.org/wiki/Hirschberg%27s_algorithm'>
+ *  Hirschberg's algorithm
+ * </a>
+ *
+ * @author Francesco Illuminati
+ */
+public class WeightedLevenshteinDistance {
+    private final int[] insertCosts;
+    private final int[] deleteCosts;
+    private final int[][] substitutionCosts;
+
+    /**
+     * The same costs for every symbol. The substitution of a symbol with
+     * itself costs 0 so {@code (alphabetSize, 1, 1, 1)} is the Levenshtein
+     * distance.
+     */
+    public WeightedLevenshteinDistance(int alphabetSize,
+            int insertCost, int deleteCost, int substitutionCost) {
+        this(fill(alphabetSize, insertCost), fill(alphabetSize, deleteCost),
+                substitutions(alphabetSize, substitutionCost));
+    }
+
+    /**
+     * The tables are not copied.
+     *
+     * @param insertCosts       the cost of inserting each symbol
+     * @param deleteCosts       the cost of deleting each symbol
+     * @param substitutionCosts {@code substitutionCosts[x][y]} is the cost
+     *                          of replacing {@code x} with {@code y}
+     *                          (usually 0 when {@code x == y})
+     */
+    public WeightedLevenshteinDistance(int[] insertCosts, int[] deleteCosts,
+            int[][] substitutionCosts) {
+        final int size = insertCosts.length;
+        if (deleteCosts.length != size || substitutionCosts.length != size) {
+            throw new IllegalArgumentException(
+                    "the cost tables must have the same size: " + size);
+        }
+        for (int x = 0; x < size; x++) {
+            if (substitutionCosts[x].length != size) {
+                throw new IllegalArgumentException(
+                        "the substitution table must be square: row " + x);
+            }
+            checkCosts(substitutionCosts[x]);
+        }
+        checkCosts(insertCosts);
+        checkCosts(deleteCosts);
+        this.insertCosts = insertCosts;
+        this.deleteCosts = deleteCosts;
+        this.substitutionCosts = substitutionCosts;
+    }
+
+    private static void checkCosts(int[] costs) {
+        for (int cost : costs) {
+            if (cost < 0) {
+                throw new IllegalArgumentException(
+                        "costs cannot be negative: " + cost);
+            }
+        }
+    }
+
+    private static int[] fill(int size, int cost) {
+        final int[] array = new int[size];
+        Arrays.fill(array, cost);
+        return array;
+    }
+
+    private static int[][] substitutions(int size, int cost) {
+        final int[][] table = new int[size][];
+        for (int x = 0; x < size; x++) {
+            table[x] = fill(size, cost);
+            table[x][x] = 0;
+        }
+        return table;
+    }
+
+    /** @return the cost of the cheapest transformation of a into b. */
+    public int distance(int[] a, int[] b) {
+        final int[] row = new int[b.length + 1];
+        forward(a, 0, a.length, b, 0, b.length, row);
+        return row[b.length];
+    }
+
+    /** @return a cheapest transformation of a into b. */
+    public Alignment align(int[] a, int[] b) {
+        final Alignment alignment = new Alignment(a.length + b.length);
+        final int[] forward = new int[b.length + 1];
+        final int[] reverse = new int[b.length + 1];
+        align(a, 0, a.length, b, 0, b.length, forward, reverse, alignment);
+        return alignment;
+    }
+
+    private void align(int[] a, int a0, int n, int[] b, int b0, int m,
+            int[] forward, int[] reverse, Alignment alignment) {
+        if (n == 0) {
+            for (int j = 0; j < m; j++) {
+                alignment.add(Alignment.Operation.INSERT, a0, b0 + j,
+                        insertCosts[b[b0 + j]]);
+            }
+            return;
+        }
+        if (m == 0) {
+            for (int i = 0; i < n; i++) {
+                alignment.add(Alignment.Operation.DELETE, a0 + i, b0,
+                        deleteCosts[a[a0 + i]]);
+            }
+            return;
+        }
+        if (n == 1 || m == 1) {
+            alignSmall(a, a0, n, b, b0, m, alignment);
+            return;
+        }
+
+        // the best column where to split the middle row
+        final int middle = n >>> 1;
+        forward(a, a0, middle, b, b0, m, forward);
+        reverse(a, a0 + middle, n - middle, b, b0, m, reverse);
+        int split = 0;
+        int best = forward[0] + reverse[0];
+        for (int j = 1; j <= m; j++) {
+            final int cost = forward[j] + reverse[j];
+            if (cost < best) {
+                best = cost;
+                split = j;
+            }
+        }
+
+        // the rows are not needed anymore and can be reused
+        align(a, a0, middle, b, b0, split, forward, reverse, alignment);
+        align(a, a0 + middle, n - middle, b, b0 + split, m - split,
+                forward, reverse, alignment);
+    }
+
+    /**
+     * Calculates the last row of the table of the given subsequences into
+     * {@code row[0..m]}: {@code row[j]} is the cost of transforming
+     * {@code a[a0..a0+n)} into {@code b[b0..b0+j)}.
+     */
+    private void forward(int[] a, int a0, int n, int[] b, int b0, int m,
+            int[] row) {
+        row[0] = 0;
+        for (int j = 0; j < m; j++) {
+            row[j + 1] = row[j] + insertCosts[b[b0 + j]];
+        }
+        int diagonal, above;
+        for (int i = 0; i < n; i++) {
+            final int x = a[a0 + i];
+            final int delete = deleteCosts[x];
+            final int[] substitutions = substitutionCosts[x];
+            diagonal = row[0];
+            row[0] += delete;
+            for (int j = 0; j < m; j++) {
+                final int y = b[b0 + j];
+                above = row[j + 1];
+                row[j + 1] = min(above + delete,
+                        row[j] + insertCosts[y],
+                        diagonal + substitutions[y]);
+                diagonal = above;
+            }
+        }
+    }
+
+    /**
+     * Calculates the first row of the table of the given subsequences
+     * going backward into {@code row[0..m]}: {@code row[j]} is the cost of
+     * transforming {@code a[a0..a0+n)} into {@code b[b0+j..b0+m)}.
+     */
+    private void reverse(int[] a, int a0, int n, int[] b, int b0, int m,
+            int[] row) {
+        row[m] = 0;
+        for (int j = m - 1; j >= 0; j--) {
+            row[j] = row[j + 1] + insertCosts[b[b0 + j]];
+        }
+        int diagonal, below;
+        for (int i = n - 1; i >= 0; i--) {
+            final int x = a[a0 + i];
+            final int delete = deleteCosts[x];
+            final int[] substitutions = substitutionCosts[x];
+            diagonal = row[m];
+            row[m] += delete;
+            for (int j = m - 1; j >= 0; j--) {
+                final int y = b[b0 + j];
+                below = row[j];
+                row[j] = min(below + delete,
+                        row[j + 1] + insertCosts[y],
+                        diagonal + substitutions[y]);
+                diagonal = below;
+            }
+        }
+    }
+
+    /**
+     * Aligns subsequences where one has a single element using the whole
+     * table (at most {@code 2*(max(n,m)+1)} cells).
+     */
+    private void alignSmall(int[] a, int a0, int n, int[] b, int b0, int m,
+            Alignment alignment) {
+        final int[][] d = new int[n + 1][m + 1];
+        for (int j = 0; j < m; j++) {
+            d[0][j + 1] = d[0][j] + insertCosts[b[b0 + j]];
+        }
+        for (int i = 0; i < n; i++) {
+            final int x = a[a0 + i];
+            d[i + 1][0] = d[i][0] + deleteCosts[x];
+            for (int j = 0; j < m; j++) {
+                final int y = b[b0 + j];
+                d[i + 1][j + 1] = min(d[i][j + 1] + deleteCosts[x],
+                        d[i + 1][j] + insertCosts[y],
+                        d[i][j] + substitutionCosts[x][y]);
+            }
+        }
+
+        // traceback (the operations are found from the end)
+        final int[] operations = new int[n + m];
+        int size = 0;
+        int i = n;
+        int j = m;
+        while (i > 0 || j > 0) {
+            if (i > 0 && j > 0 && d[i][j] == d[i - 1][j - 1] +
+                    substitutionCosts[a[a0 + i - 1]][b[b0 + j - 1]]) {
+                operations[size++] = 0;
+                i--;
+                j--;
+            } else if (i > 0 &&
+                    d[i][j] == d[i - 1][j] + deleteCosts[a[a0 + i - 1]]) {
+                operations[size++] = 1;
+                i--;
+            } else {
+                operations[size++] = 2;
+                j--;
+            }
+        }
+
+        for (int k = size - 1; k >= 0; k--) {
+            switch (operations[k]) {
+                case 0:
+                    final int x = a[a0 + i];
+                    final int y = b[b0 + j];
+                    alignment.add(x == y ?
+                            Alignment.Operation.MATCH :
+                            Alignment.Operation.SUBSTITUTE,
+                            a0 + i, b0 + j, substitutionCosts[x][y]);
+                    i++;
+                    j++;
+                    break;
+                case 1:
+                    alignment.add(Alignment.Operation.DELETE, a0 + i, b0 + j,
+                            deleteCosts[a[a0 + i]]);
+                    i++;
+                    break;
+                default:
+                    alignment.add(Alignment.Operation.INSERT, a0 + i, b0 + j,
+                            insertCosts[b[b0 + j]]);
+                    j++;
+            }
+        }
+    }
+
+    static int min(int a, int b, int c) {
+        int mi = a;
+        if (b < mi) {
+            mi = b;
+        }
+        if (c < mi) {
+            mi = c;
+        }
+        return mi;
+    }
+
+    /**
+     * The operations transforming the first sequence into the second one,
+     * one for each element (in order).
+     */
+    public static class Alignment {
+
+        public enum Operation {
+            /** The elements are the same. */
+            MATCH,
+            /** The element of the first sequence is replaced. */
+            SUBSTITUTE,
+            /** The element of the first sequence is removed. */
+            DELETE,
+            /** The element of the second sequence is added. */
+            INSERT
+        }
+
+        private static final Operation[] OPERATIONS = Operation.values();
+
+        // operation, first sequence index, second sequence index
+        private int[] data;
+        private int size;
+        private int cost;
+
+        Alignment(int capacity) {
+            this.data = new int[Math.max(1, capacity) * 3];
+        }
+
+        void add(Operation operation, int x, int y, int operationCost) {
+            if (size * 3 == data.length) {
+                data = Arrays.copyOf(data, data.length << 1);
+            }
+            final int index = size * 3;
+            data[index] = operation.ordinal();
+            data[index + 1] = x;
+            data[index + 2] = y;
+            size++;
+            cost += operationCost;
+        }
+
+        /** @return the number of operations. */
+        public int size() {
+            return size;
+        }
+
+        /** @return the total cost (the distance). */
+        public int getCost() {
+            return cost;
+        }
+
+        public Operation getOperation(int index) {
+            return OPERATIONS[data[index * 3]];
+        }
+
+        /**
+         * @return the index of the element in the first sequence (for
+         *         {@link Operation#INSERT} the one before which the
+         *         element is inserted).
+         */
+        public int getFirstSequenceIndex(int index) {
+            return data[index * 3 + 1];
+        }
+
+        /**
+         * @return the index of the element in the second sequence (for
+         *         {@link Operation#DELETE} the one where the element would
+         *         have been).
+         */
+        public int getSecondSequenceIndex(int index) {
+            return data[index * 3 + 2];
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder();
+            buf.append('[');
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    buf.append(", ");
+                }
+                buf.append(getOperation(i))
+                        .append('(')
+                        .append(getFirstSequenceIndex(i))
+                        .append(',')
+                        .append(getSecondSequenceIndex(i))
+                        .append(')');
+            }
+            return buf.append("] cost=").append(cost).toString();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.fillumina.lcs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base of the algorithms that split the sequences at some matches
+ * (anchors) chosen by counting the occurrences of their elements and that
+ * use the linear space Myers algorithm for the parts where there are no
+ * anchors left. The sequences are interned so that their elements can be
+ * counted using their ids as indexes.
+ * <p>
+ * The returned LCS is not always the longest but it is usually more
+ * readable (i.e. on source code it doesn't match unrelated blank lines
+ * and braces) and it is faster to calculate on long and similar sequences.
+ *
+ * @author Francesco Illuminati
+ */
+abstract class AbstractAnchoredLcs implements Lcs {
+
+    @Override
+    public <T> List<T> calculateLcs(T[] a, T[] b) {
+        final List<LcsItem> lcsItems = calculateLcsIndexes(a, b);
+        if (lcsItems == null) {
+            return Collections.<T>emptyList();
+        }
+        final List<T> result = new ArrayList<>(lcsItems.size());
+        for (LcsItem item : lcsItems) {
+            final int end = item.getFirstSequenceIndex() + item.getSteps();
+            for (int i = item.getFirstSequenceIndex(); i < end; i++) {
+                result.add(a[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
+        final Interner interner = new Interner(length(a));
+        final int[] ia = a == null ? new int[0] : interner.intern(a);
+        final int[] ib = b == null ? new int[0] : interner.idsOf(b);
+        return createEngine(false, ia, ib, interner.size()).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(Object[] a, Object[] b) {
+        final Interner interner = new Interner(length(a));
+        final int[] ia = a == null ? new int[0] : interner.intern(a);
+        final int[] ib = b == null ? new int[0] : interner.idsOf(b);
+        return createEngine(true, ia, ib, interner.size())
+                .calculateLcsLength();
+    }
+
+    private static int length(Object[] array) {
+        return array == null ? 0 : array.length;
+    }
+
+    /**
+     * @param a the ids of the first sequence (from 0 to
+     *          {@code alphabetSize - 1})
+     * @param b the ids of the second sequence (the elements not in the
+     *          first one are {@link Interner#NOT_FOUND})
+     */
+    abstract IdsLinearSpaceMyersLcs createEngine(boolean sizeOnly,
+            int[] a, int[] b, int alphabetSize);
+
+    /**
+     * The engines override {@link #lcs(int, int, int, int)} to look for
+     * anchors and call the Myers implementation when there are none.
+     */
+    abstract static class IdsLinearSpaceMyersLcs
+            extends AbstractLinearSpaceMyersLcs {
+        final int[] a, b;
+
+        IdsLinearSpaceMyersLcs(boolean sizeOnly, int[] a, int[] b) {
+            super(sizeOnly);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b.length;
+        }
+    }
+}
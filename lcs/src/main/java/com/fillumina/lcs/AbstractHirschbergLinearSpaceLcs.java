@@ -1,5 +1,10 @@
 package com.fillumina.lcs;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 /**
  * The Hirschberg linear space algorithm is very memory efficient (only
  * {@code 3 * (m+1)} int elements used) and fast for sequences which are mostly
@@ -8,6 +13,11 @@ package com.fillumina.lcs;
  * {@link AbastractLinearSpaceMyersLcs} algorithm is more than twice faster.
  * To minimize the memory consumption set the smaller sequence to be the second
  * one.
+ * <p>
+ * In parallel mode the forward and reverse score passes are calculated
+ * concurrently and so are the two halves of the bisection when they are
+ * bigger than the given threshold. Each task uses its own rows so the
+ * memory used is {@code 4 * (m+1)} int elements per concurrent task.
  *
  * @see <a href='https://en.wikipedia.org/wiki/Hirschberg's_algorithm'>
  *  Wikipedia: Hirschberg's Algorithm
@@ -17,24 +27,90 @@ package com.fillumina.lcs;
 public abstract class AbstractHirschbergLinearSpaceLcs
         extends AbstractLcsHeadTailReducer {
     private int[][] array;
+    private final ForkJoinPool forkJoinPool;
+    private final int parallelThreshold;
+    private final ConcurrentLinkedQueue<int[][]> freeRows;
 
     public AbstractHirschbergLinearSpaceLcs() {
+        this(false, null);
     }
 
     public AbstractHirschbergLinearSpaceLcs(boolean sizeOnly) {
-        super(sizeOnly);
+        this(sizeOnly, null);
+    }
+
+    /** @param pool keeps the working buffers between calls. */
+    public AbstractHirschbergLinearSpaceLcs(boolean sizeOnly,
+            LcsBufferPool pool) {
+        super(sizeOnly, pool);
+        this.forkJoinPool = null;
+        this.parallelThreshold = 0;
+        this.freeRows = null;
+    }
+
+    /**
+     * Parallel mode: the size only mode is not available because the
+     * counter cannot be shared between threads (use
+     * {@code calculateLcs().size()} instead).
+     *
+     * @param forkJoinPool  executes the tasks
+     * @param parallelThreshold the minimum size ({@code n + m}) of a
+     *                      problem to calculate its score passes
+     *                      concurrently and of both its halves to fork them
+     */
+    public AbstractHirschbergLinearSpaceLcs(ForkJoinPool forkJoinPool,
+            int parallelThreshold) {
+        super(false, null);
+        if (forkJoinPool == null) {
+            throw new NullPointerException("forkJoinPool cannot be null");
+        }
+        this.forkJoinPool = forkJoinPool;
+        this.parallelThreshold = parallelThreshold;
+        this.freeRows = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public List<LcsItem> calculateLcs() {
+        if (forkJoinPool == null) {
+            return super.calculateLcs();
+        }
+        return forkJoinPool.invoke(new LcsTask(0, getFirstSequenceLength(),
+                0, getSecondSequenceLength()));
+    }
+
+    @Override
+    public int calculateLcsLength() {
+        if (forkJoinPool == null) {
+            return super.calculateLcsLength();
+        }
+        final List<LcsItem> list = calculateLcs();
+        return list == null ? 0 : list.size();
+    }
+
+    @Override
+    boolean isMatchInOrder() {
+        return forkJoinPool == null;
+    }
+
+    /** In parallel mode the matches are found by different threads. */
+    @Override
+    public LcsMatches calculateLcsMatches() {
+        if (forkJoinPool == null) {
+            return super.calculateLcsMatches();
+        }
+        return LcsMatches.of(calculateLcs());
     }
 
     /** Override if you want to provide an array {@code int[3][m+1]}. */
     protected int[][] createArray(int m) {
+        if (pool != null) {
+            return pool.getTable(LcsBufferPool.HIRSCHBERG, 3, m+1);
+        }
         return new int[3][m+1];
     }
 
     @Override
     LcsItemImpl lcs(int aStart, int n, int bStart, int m) {
-        if (array == null) {
-            array = createArray(bStart+m);
-        }
         int bEnd = bStart + m;
         int aEnd = aStart + n;
 
@@ -53,9 +129,43 @@ public abstract class AbstractHirschbergLinearSpaceLcs
             default:
                 final int aBisect = aStart + n / 2;
 
-                final int bBisect = calculateCuttingIndex(
-                        aStart, aBisect, aEnd,
-                        bStart, bEnd);
+                final int bBisect;
+                if (freeRows == null) {
+                    if (array == null) {
+                        array = createArray(bStart+m);
+                    }
+                    bBisect = calculateCuttingIndex(array,
+                            aStart, aBisect, aEnd,
+                            bStart, bEnd);
+                } else {
+                    // each concurrent task needs its own rows
+                    int[][] rows = freeRows.poll();
+                    if (rows == null) {
+                        rows = new int[4][getSecondSequenceLength() + 1];
+                    }
+                    if (n + m >= parallelThreshold) {
+                        bBisect = calculateCuttingIndexInParallel(rows,
+                                aStart, aBisect, aEnd,
+                                bStart, bEnd);
+                    } else {
+                        bBisect = calculateCuttingIndex(rows,
+                                aStart, aBisect, aEnd,
+                                bStart, bEnd);
+                    }
+                    freeRows.offer(rows);
+
+                    if (aBisect - aStart + bBisect - bStart >=
+                            parallelThreshold &&
+                            aEnd - aBisect + bEnd - bBisect >=
+                            parallelThreshold) {
+                        final LcsTask firstHalf = new LcsTask(
+                                aStart, aBisect-aStart, bStart, bBisect-bStart);
+                        firstHalf.fork();
+                        final LcsItemImpl secondHalf = lcsHeadTail(
+                                aBisect, aEnd-aBisect, bBisect, bEnd-bBisect);
+                        return concat(firstHalf.join(), secondHalf);
+                    }
+                }
 
                 return concat(
                         lcsHeadTail(aStart, aBisect-aStart, bStart, bBisect-bStart),
@@ -73,22 +183,46 @@ public abstract class AbstractHirschbergLinearSpaceLcs
         return a.chain(b);
     }
 
-    private int calculateCuttingIndex(
+    private int calculateCuttingIndex(int[][] rows,
             int aStart, int aBisect, int aEnd,
             int bStart, int bEnd) {
 
-        int[] forward = calculateLcsForward(aStart, aBisect, bStart, bEnd);
+        int[] forward = calculateLcsForward(rows, 0, 2,
+                aStart, aBisect, bStart, bEnd);
 
-        int[] backward = calculateLcsReverse(aBisect, aEnd, bStart, bEnd);
+        int[] backward = calculateLcsReverse(rows, 1, 2,
+                aBisect, aEnd, bStart, bEnd);
 
         return indexOfBiggerSum(forward, backward, bStart, bEnd) ;
     }
 
-    private int[] calculateLcsForward(
+    /** The forward pass is forked while the reverse one is calculated. */
+    private int calculateCuttingIndexInParallel(final int[][] rows,
+            final int aStart, final int aBisect, int aEnd,
+            final int bStart, final int bEnd) {
+
+        ForwardTask forwardTask =
+                new ForwardTask(rows, aStart, aBisect, bStart, bEnd);
+        forwardTask.fork();
+
+        int[] backward = calculateLcsReverse(rows, 1, 3,
+                aBisect, aEnd, bStart, bEnd);
+
+        int[] forward = forwardTask.join();
+
+        return indexOfBiggerSum(forward, backward, bStart, bEnd) ;
+    }
+
+    /**
+     * Uses the rows {@code result} and {@code temp} of the given array.
+     * @return the row {@code result} containing the scores.
+     */
+    private int[] calculateLcsForward(final int[][] rows,
+            final int result, final int temp,
             int aStart, int aEnd,
             int bStart, int bEnd) {
-        int[] curr = array[0];
-        int[] prev = array[2];
+        int[] curr = rows[result];
+        int[] prev = rows[temp];
         int[] tmp;
 
         curr[bStart] = 0;
@@ -118,20 +252,25 @@ public abstract class AbstractHirschbergLinearSpaceLcs
             }
         }
 
-        // swap the buffers so that curr is always buffer[0]
-        if (curr == array[2]) {
-            tmp = array[0];
-            array[0] = array[2];
-            array[2] = tmp;
+        // swap the buffers so that curr is always rows[result]
+        if (curr == rows[temp]) {
+            tmp = rows[result];
+            rows[result] = rows[temp];
+            rows[temp] = tmp;
         }
-        return array[0];
+        return rows[result];
     }
 
-    private int[] calculateLcsReverse(
+    /**
+     * Uses the rows {@code result} and {@code temp} of the given array.
+     * @return the row {@code result} containing the scores.
+     */
+    private int[] calculateLcsReverse(final int[][] rows,
+            final int result, final int temp,
             int aStart, int aEnd,
             int bStart, int bEnd) {
-        int[] curr = array[1];
-        int[] prev = array[2];
+        int[] curr = rows[result];
+        int[] prev = rows[temp];
         int[] tmp;
         int offset = bEnd + bStart - 1;
 
@@ -162,13 +301,13 @@ public abstract class AbstractHirschbergLinearSpaceLcs
             }
         }
 
-        // swap the buffers so that curr is always buffer[1]
-        if (curr == array[2]) {
-            tmp = array[1];
-            array[1] = array[2];
-            array[2] = tmp;
+        // swap the buffers so that curr is always rows[result]
+        if (curr == rows[temp]) {
+            tmp = rows[result];
+            rows[result] = rows[temp];
+            rows[temp] = tmp;
         }
-        return array[1];
+        return rows[result];
     }
 
     private static int indexOfBiggerSum(int[] forward, int[] reverse,
@@ -183,4 +322,42 @@ public abstract class AbstractHirschbergLinearSpaceLcs
         }
         return k;
     }
+
+    private class LcsTask extends RecursiveTask<LcsItemImpl> {
+        private static final long serialVersionUID = 1L;
+
+        private final int a0, n, b0, m;
+
+        LcsTask(int a0, int n, int b0, int m) {
+            this.a0 = a0;
+            this.n = n;
+            this.b0 = b0;
+            this.m = m;
+        }
+
+        @Override
+        protected LcsItemImpl compute() {
+            return lcsHeadTail(a0, n, b0, m);
+        }
+    }
+
+    private class ForwardTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] rows;
+        private final int aStart, aEnd, bStart, bEnd;
+
+        ForwardTask(int[][] rows, int aStart, int aEnd, int bStart, int bEnd) {
+            this.rows = rows;
+            this.aStart = aStart;
+            this.aEnd = aEnd;
+            this.bStart = bStart;
+            this.bEnd = bEnd;
+        }
+
+        @Override
+        protected int[] compute() {
+            return calculateLcsForward(rows, 0, 2, aStart, aEnd, bStart, bEnd);
+        }
+    }
 }
@@ -10,15 +10,32 @@ import java.util.List;
 // cannot be made public because it uses LcsItemImpl which is package protected
 abstract class AbstractLcsHeadTailReducer {
     private int counter = -1;
+    // only reliable when the matches are found by a single thread
+    private int matchedSteps;
+    private LcsMatches recorder;
+    private LcsMatchConsumer consumer;
+    final LcsBufferPool pool;
 
     public AbstractLcsHeadTailReducer() {
+        this(false, null);
     }
 
     /** Use this constructor if you want to only calculate the size of the LCS. */
     public AbstractLcsHeadTailReducer(final boolean sizeOnly) {
+        this(sizeOnly, null);
+    }
+
+    /**
+     * @param pool keeps the working buffers between calls (it is trimmed
+     *             at the end of each calculation), if {@code null}
+     *             buffers are allocated at each call.
+     */
+    public AbstractLcsHeadTailReducer(final boolean sizeOnly,
+            final LcsBufferPool pool) {
         if (sizeOnly) {
             counter = 0;
         }
+        this.pool = pool;
     }
 
     /** @return the length of the first sequence. */
@@ -36,10 +53,27 @@ abstract class AbstractLcsHeadTailReducer {
     /** Template method called by {@link #lcsHeadTail(int, int, int, int)}. */
     abstract LcsItemImpl lcs(int a0, int n, int b0, int m);
 
+    /**
+     * @return {@code true} if the algorithm calls
+     *         {@link #match(int, int, int)} in order (by increasing
+     *         indexes) so that each match can be visited as soon as it is
+     *         found. Algorithms backtracking from the end don't.
+     */
+    boolean isMatchInOrder() {
+        return true;
+    }
+
     /** @return a list of matching indexes from the LCS. */
     public List<LcsItem> calculateLcs() {
-        return lcsHeadTail(0, getFirstSequenceLength(),
-                0, getSecondSequenceLength());
+        matchedSteps = 0;
+        try {
+            return lcsHeadTail(0, getFirstSequenceLength(),
+                    0, getSecondSequenceLength());
+        } finally {
+            if (pool != null) {
+                pool.trim();
+            }
+        }
     }
 
     /**
@@ -56,7 +90,63 @@ abstract class AbstractLcsHeadTailReducer {
         return counter;
     }
 
+    /**
+     * @return the LCS as {@link LcsMatches}: the matches are recorded
+     *         directly into it without creating any {@link LcsItem}.
+     */
+    public LcsMatches calculateLcsMatches() {
+        final LcsMatches matches = new LcsMatches();
+        recorder = matches;
+        try {
+            calculateLcs();
+        } finally {
+            recorder = null;
+        }
+        matches.sort();
+        return matches;
+    }
+
+    /**
+     * Calls the visitor in order on the matches of the LCS and on the
+     * elements between them. The matches are visited as soon as they are
+     * found unless the algorithm finds them out of order, then they are
+     * first recorded into an {@link LcsMatches}.
+     */
+    public void visitLcs(LcsVisitor visitor) {
+        final int n = getFirstSequenceLength();
+        final int m = getSecondSequenceLength();
+        if (!isMatchInOrder()) {
+            calculateLcsMatches().accept(visitor, n, m);
+            return;
+        }
+        final LcsVisitorAdaptor adaptor = new LcsVisitorAdaptor(visitor);
+        consumer = adaptor;
+        try {
+            calculateLcs();
+        } finally {
+            consumer = null;
+        }
+        adaptor.end(n, m);
+    }
+
+    /**
+     * @return the number of matched elements found by the last (not
+     *         parallel) calculation.
+     */
+    final int getMatchedSteps() {
+        return matchedSteps;
+    }
+
     final LcsItemImpl match(int x, int y, int steps) {
+        matchedSteps += steps;
+        if (recorder != null) {
+            recorder.add(x, y, steps);
+            return null;
+        }
+        if (consumer != null) {
+            consumer.onMatch(x, y, steps);
+            return null;
+        }
         if (counter == -1) {
             return new LcsItemImpl(x, y, steps);
         } else {
@@ -82,19 +172,20 @@ abstract class AbstractLcsHeadTailReducer {
                 return matchDown;
             }
         }
-        LcsItemImpl matchUp = null;
         final int x0 = a0 + n - 1;
         final int y0 = b0 + m - 1;
         final int maxu = min - d;
         int u;
         for (u = 0; u < maxu && sameAtIndex(x0 - u, y0 - u); u++) {}
-        if (u > 0) {
-            matchUp = match(a0 + n - u, b0 + m - u, u);
-        }
         LcsItemImpl lcsMatch = null;
         if (u + d < min) {
             lcsMatch = lcs(a0+d, n-d-u, b0+d, m-d-u);
         }
+        // the tail is matched last to keep the matches in order
+        LcsItemImpl matchUp = null;
+        if (u > 0) {
+            matchUp = match(a0 + n - u, b0 + m - u, u);
+        }
         return LcsItemImpl.chain(matchDown, lcsMatch, matchUp);
     }
 
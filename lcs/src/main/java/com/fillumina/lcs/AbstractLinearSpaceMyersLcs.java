@@ -1,5 +1,10 @@
 package com.fillumina.lcs;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 /**
  * Implementation of the Linear Space Myers LCS algorithm. It is fast
  * and memory efficient. Its memory usage grows with the distance of the
@@ -7,6 +12,16 @@ package com.fillumina.lcs;
  * This algorithm is slower than
  * {@link AbstractHirschbergLinearSpaceLcs} when the sequences are
  * mostly different.
+ * <p>
+ * In parallel mode the two independent sub-problems on either side of
+ * the middle snake are calculated by separate fork/join tasks when they
+ * are both bigger than the given threshold.
+ * <p>
+ * With a cost limit the search of the middle snake is stopped after
+ * the given number of steps and the sequences are split at the
+ * furthest reaching point found (as GNU diff does with huge inputs):
+ * the time becomes about {@code O((n+m)*costLimit)} per recursion level
+ * but the LCS found may be slightly shorter than the longest one.
  *
  * @see <a href='www.xmailserver.org/diff2.pdf'>
  *  An O(ND) Difference Algorithm and Its Variations (PDF)
@@ -16,9 +31,14 @@ package com.fillumina.lcs;
 public abstract class AbstractLinearSpaceMyersLcs
         extends AbstractLcsHeadTailReducer {
     private int[][] vv;
+    private final ForkJoinPool forkJoinPool;
+    private final int parallelThreshold;
+    private final ConcurrentLinkedQueue<int[][]> freeVectors;
+    private final int maxEditDistance;
+    private final int costLimit;
 
     public AbstractLinearSpaceMyersLcs() {
-        super();
+        this(false, null);
     }
 
     /**
@@ -26,7 +46,155 @@ public abstract class AbstractLinearSpaceMyersLcs
      *                (the returned list will always be empty).
      */
     public AbstractLinearSpaceMyersLcs(boolean sizeOnly) {
-        super(sizeOnly);
+        this(sizeOnly, null);
+    }
+
+    /** @param pool keeps the working buffers between calls. */
+    public AbstractLinearSpaceMyersLcs(boolean sizeOnly, LcsBufferPool pool) {
+        this(sizeOnly, pool, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param pool keeps the working buffers between calls (can be
+     *             {@code null}).
+     * @param maxEditDistance the calculation is aborted with an
+     *             {@link EditDistanceExceededException} when the edit
+     *             distance of the sequences is greater than this.
+     */
+    public AbstractLinearSpaceMyersLcs(boolean sizeOnly, LcsBufferPool pool,
+            int maxEditDistance) {
+        this(sizeOnly, pool, maxEditDistance, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param pool keeps the working buffers between calls (can be
+     *             {@code null}).
+     * @param maxEditDistance the calculation is aborted with an
+     *             {@link EditDistanceExceededException} when the edit
+     *             distance of the sequences is greater than this.
+     * @param costLimit the maximum number of steps in the search of a
+     *             middle snake before splitting the sequences at the
+     *             furthest reaching point ({@link Integer#MAX_VALUE}
+     *             always returns the longest LCS).
+     */
+    public AbstractLinearSpaceMyersLcs(boolean sizeOnly, LcsBufferPool pool,
+            int maxEditDistance, int costLimit) {
+        super(sizeOnly, pool);
+        if (costLimit < 1) {
+            throw new IllegalArgumentException(
+                    "costLimit must be positive: " + costLimit);
+        }
+        this.forkJoinPool = null;
+        this.parallelThreshold = 0;
+        this.freeVectors = null;
+        this.maxEditDistance = maxEditDistance;
+        this.costLimit = costLimit;
+    }
+
+    /**
+     * Parallel mode: the size only mode is not available because the
+     * counter cannot be shared between threads (use
+     * {@code calculateLcs().size()} instead).
+     *
+     * @param forkJoinPool  executes the tasks
+     * @param parallelThreshold the minimum size of both sub-problems
+     *                      ({@code n + m}) to fork them
+     */
+    public AbstractLinearSpaceMyersLcs(ForkJoinPool forkJoinPool,
+            int parallelThreshold) {
+        super(false, null);
+        if (forkJoinPool == null) {
+            throw new NullPointerException("forkJoinPool cannot be null");
+        }
+        this.forkJoinPool = forkJoinPool;
+        this.parallelThreshold = parallelThreshold;
+        this.freeVectors = new ConcurrentLinkedQueue<>();
+        this.maxEditDistance = Integer.MAX_VALUE;
+        this.costLimit = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Override to set a limit to the time spent on very different
+     * sequences (the algorithm is {@code O((n+m)*D)}).
+     *
+     * @return the maximum allowed edit distance (number of elements not
+     *         part of the LCS) before throwing an
+     *         {@link EditDistanceExceededException}.
+     */
+    protected int getMaxEditDistance() {
+        return maxEditDistance;
+    }
+
+    /**
+     * Override to trade the optimality of the LCS for speed on huge and
+     * different sequences (GNU diff uses about the square root of the
+     * total length with a minimum of 4096). The edit distance checked
+     * against {@link #getMaxEditDistance()} is the one of the LCS found,
+     * that can be greater than the optimal one.
+     *
+     * @return the maximum number of steps in the search of a middle snake
+     *         (must be positive).
+     */
+    protected int getCostLimit() {
+        return costLimit;
+    }
+
+    @Override
+    public List<LcsItem> calculateLcs() {
+        // sequences resolved by the head-tail optimization never reach lcs()
+        final int diff = getFirstSequenceLength() - getSecondSequenceLength();
+        final int maxEditDistance = getMaxEditDistance();
+        if (diff > maxEditDistance || -diff > maxEditDistance) {
+            throw new EditDistanceExceededException(maxEditDistance);
+        }
+        if (forkJoinPool == null) {
+            final List<LcsItem> lcs = super.calculateLcs();
+            // each sub-problem is checked on its own but with the cost
+            // limit the split points may not be optimal and their edit
+            // distances can add up to more than the maximum
+            final long editDistance = (long) getFirstSequenceLength() +
+                    getSecondSequenceLength() - 2L * getMatchedSteps();
+            if (editDistance > maxEditDistance) {
+                throw new EditDistanceExceededException(maxEditDistance);
+            }
+            return lcs;
+        }
+        return forkJoinPool.invoke(new LcsTask(0, getFirstSequenceLength(),
+                0, getSecondSequenceLength()));
+    }
+
+    @Override
+    public int calculateLcsLength() {
+        if (forkJoinPool == null) {
+            return super.calculateLcsLength();
+        }
+        final List<LcsItem> list = calculateLcs();
+        return list == null ? 0 : list.size();
+    }
+
+    @Override
+    boolean isMatchInOrder() {
+        return forkJoinPool == null;
+    }
+
+    /** In parallel mode the matches are found by different threads. */
+    @Override
+    public LcsMatches calculateLcsMatches() {
+        if (forkJoinPool == null) {
+            return super.calculateLcsMatches();
+        }
+        return LcsMatches.of(calculateLcs());
+    }
+
+    /**
+     * Override if you want to provide an array {@code int[2][size]}
+     * (its content is undefined).
+     */
+    protected int[][] createVectors(int size) {
+        if (pool != null) {
+            return pool.getTable(LcsBufferPool.LINEAR_SPACE_MYERS, 2, size);
+        }
+        return new int[2][size];
     }
 
     /** Recursive linear space Myers algorithm. */
@@ -49,12 +217,18 @@ public abstract class AbstractLinearSpaceMyersLcs
             return null;
         }
 
-        if (vv == null) {
-            vv = new int[2][n+m+4];
-        }
-        int[][] vv = this.vv;
+        final int[][] vv = acquireVectors(n+m+4);
+
+        // the edit distance of a sub-problem cannot be greater than the
+        // one of the whole problem so the checks are valid at any level
+        final int maxEditDistance = getMaxEditDistance();
+        final int costLimit = getCostLimit();
 
-        LcsItemImpl match = null;
+        // the middle snake is matched between the two sub-problems so the
+        // matches are found in order
+        int snakeX = 0;
+        int snakeY = 0;
+        int snakeLength = 0;
         int xStart = -1;
         int yStart = -1;
         int xEnd = -1;
@@ -72,9 +246,13 @@ public abstract class AbstractLinearSpaceMyersLcs
             final int halfv = vf.length >> 1;
 
             vf[halfv + 1] = 0;
-            vf[halfv + delta] = 0;
             vb[halfv - 1] = n;
-            vb[halfv - delta] = n;
+            if (delta < halfv && -delta < halfv) {
+                // with very unbalanced sequences they would be out of
+                // bounds but then the diagonal delta is never reached
+                vf[halfv + delta] = 0;
+                vb[halfv - delta] = n;
+            }
 
             boolean isPrev;
             int k;
@@ -89,6 +267,51 @@ public abstract class AbstractLinearSpaceMyersLcs
 
             FIND_MIDDLE_SNAKE:
             for (int d = 0; d <= max; d++) {
+                // no overlapping found until now means D >= 2d-1
+                if ((d << 1) - 1 > maxEditDistance) {
+                    throw new EditDistanceExceededException(maxEditDistance);
+                }
+                if (d > costLimit) {
+                    // too expensive: split at the furthest reaching point
+                    // of the last step (forward or backward) without a
+                    // snake. The LCS found might not be the longest.
+                    int fxBest = -1;
+                    int fxyBest = -1;
+                    for (k = 1 - d; k < d; k += 2) {
+                        xEnd = vf[halfv + k];
+                        yEnd = xEnd - k;
+                        if (xEnd <= n && yEnd >= 0 && yEnd <= m &&
+                                xEnd + yEnd > fxyBest) {
+                            fxBest = xEnd;
+                            fxyBest = xEnd + yEnd;
+                        }
+                    }
+                    int bxBest = -1;
+                    int bxyBest = n + m + 1;
+                    for (k = delta + 1 - d; k < delta + d; k += 2) {
+                        xStart = vb[halfv + k - delta];
+                        yStart = xStart - k;
+                        if (xStart >= 0 && xStart <= n && yStart >= 0 &&
+                                yStart <= m && xStart + yStart < bxyBest) {
+                            bxBest = xStart;
+                            bxyBest = xStart + yStart;
+                        }
+                    }
+                    final int x, xy;
+                    if (fxyBest >= n + m - bxyBest) {
+                        x = fxBest;
+                        xy = fxyBest;
+                    } else {
+                        x = bxBest;
+                        xy = bxyBest;
+                    }
+                    // both the sub-problems must be smaller
+                    if (xy > 0 && xy < n + m) {
+                        xStart = xEnd = x;
+                        yStart = yEnd = xy - x;
+                        break FIND_MIDDLE_SNAKE;
+                    }
+                }
                 // forward Myers algorithm
                 if (d != 0) {
                     kStart = delta - (d - 1);
@@ -116,14 +339,18 @@ public abstract class AbstractLinearSpaceMyersLcs
                             vb[vIndex - delta] <= xEnd) {
                         xStart = isPrev ? next : prev;
                         yStart = xStart - (k + (isPrev ? 1 : -1));
-                        if (xEnd > xMid) {
-                            match = match(a0 + xMid, b0 + (xMid - k),
-                                    xEnd - xMid);
-                        }
+                        snakeX = xMid;
+                        snakeY = xMid - k;
+                        snakeLength = xEnd - xMid;
                         break FIND_MIDDLE_SNAKE;
                     }
                 }
 
+                // no overlapping found until now means D >= 2d
+                if ((d << 1) > maxEditDistance) {
+                    throw new EditDistanceExceededException(maxEditDistance);
+                }
+
                 // reverse Myers algorithm
                 kStart = delta - d;
                 kEnd = delta + d;
@@ -150,27 +377,89 @@ public abstract class AbstractLinearSpaceMyersLcs
                             xStart <= vf[vIndex + delta]) {
                         xEnd = isPrev ? prev : next;
                         yEnd = xEnd - (k + (isPrev ? -1 : 1));
-                        if (xMid > xStart) {
-                            match = match(a0 + xStart, b0 + yStart,
-                                    xMid - xStart);
-                        }
+                        snakeX = xStart;
+                        snakeY = yStart;
+                        snakeLength = xMid - xStart;
                         break FIND_MIDDLE_SNAKE;
                     }
                 }
             }
         }
+        releaseVectors(vv);
+
         final boolean fromStart = xStart <= 0 || yStart <= 0;
         final boolean toEnd = xEnd >= n || n - xEnd == 0 || m - yEnd == 0;
         if (fromStart && toEnd) {
-            return match;
+            return snake(a0 + snakeX, b0 + snakeY, snakeLength);
+        }
+
+        if (!fromStart && !toEnd && forkJoinPool != null &&
+                xStart + yStart >= parallelThreshold &&
+                n - xEnd + m - yEnd >= parallelThreshold) {
+            final LcsTask beforeTask = new LcsTask(a0, xStart, b0, yStart);
+            beforeTask.fork();
+            LcsItemImpl match = snake(a0 + snakeX, b0 + snakeY, snakeLength);
+            LcsItemImpl after = lcsHeadTail(a0+xEnd, n-xEnd, b0+yEnd, m-yEnd);
+            return LcsItemImpl.chain(beforeTask.join(), match, after);
         }
 
         LcsItemImpl before = fromStart ? null :
                 lcsHeadTail(a0, xStart, b0, yStart);
 
+        LcsItemImpl match = snake(a0 + snakeX, b0 + snakeY, snakeLength);
+
         LcsItemImpl after = toEnd ? null :
                 lcsHeadTail(a0+xEnd, n-xEnd, b0+yEnd, m-yEnd);
 
         return LcsItemImpl.chain(before, match, after);
     }
+
+    private LcsItemImpl snake(int x, int y, int length) {
+        return length > 0 ? match(x, y, length) : null;
+    }
+
+    /**
+     * The vectors are only used while searching for the middle snake so
+     * in sequential mode they can be shared by all the recursive calls.
+     * In parallel mode each concurrent search takes its own from a queue.
+     */
+    private int[][] acquireVectors(int size) {
+        if (freeVectors == null) {
+            // sub-problems are usually smaller but not with the
+            // algorithms that override lcs()
+            if (vv == null || vv[0].length < size) {
+                vv = createVectors(size);
+            }
+            return vv;
+        }
+        final int[][] free = freeVectors.poll();
+        if (free != null && free[0].length >= size) {
+            return free;
+        }
+        return new int[2][size];
+    }
+
+    private void releaseVectors(int[][] vectors) {
+        if (freeVectors != null) {
+            freeVectors.offer(vectors);
+        }
+    }
+
+    private class LcsTask extends RecursiveTask<LcsItemImpl> {
+        private static final long serialVersionUID = 1L;
+
+        private final int a0, n, b0, m;
+
+        LcsTask(int a0, int n, int b0, int m) {
+            this.a0 = a0;
+            this.n = n;
+            this.b0 = b0;
+            this.m = m;
+        }
+
+        @Override
+        protected LcsItemImpl compute() {
+            return lcsHeadTail(a0, n, b0, m);
+        }
+    }
 }
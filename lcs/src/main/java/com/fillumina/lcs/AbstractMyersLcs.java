@@ -1,5 +1,7 @@
 package com.fillumina.lcs;
 
+import java.util.List;
+
 /**
  * An implementation of the Myers LCS algorithm. It's faster than the
  * linear space alternative but its space usage is quadratic.
@@ -16,25 +18,163 @@ package com.fillumina.lcs;
  * @author Francesco Illuminati
  */
 public abstract class AbstractMyersLcs extends AbstractLcsHeadTailReducer {
+    private final int maxEditDistance;
 
     public AbstractMyersLcs() {
-        super();
+        this(false, null);
     }
 
     public AbstractMyersLcs(boolean sizeOnly) {
-        super(sizeOnly);
+        this(sizeOnly, null);
+    }
+
+    /** @param pool keeps the working buffers between calls. */
+    public AbstractMyersLcs(boolean sizeOnly, LcsBufferPool pool) {
+        this(sizeOnly, pool, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param pool keeps the working buffers between calls (can be
+     *             {@code null}).
+     * @param maxEditDistance the calculation is aborted with an
+     *             {@link EditDistanceExceededException} when the edit
+     *             distance of the sequences is greater than this.
+     */
+    public AbstractMyersLcs(boolean sizeOnly, LcsBufferPool pool,
+            int maxEditDistance) {
+        super(sizeOnly, pool);
+        this.maxEditDistance = maxEditDistance;
+    }
+
+    /**
+     * Override to set a limit to the time spent on very different
+     * sequences (the algorithm is {@code O((n+m)*D)}).
+     *
+     * @return the maximum allowed edit distance (number of elements not
+     *         part of the LCS) before throwing an
+     *         {@link EditDistanceExceededException}.
+     */
+    protected int getMaxEditDistance() {
+        return maxEditDistance;
+    }
+
+    @Override
+    public List<LcsItem> calculateLcs() {
+        // sequences resolved by the head-tail optimization never reach lcs()
+        final int diff = getFirstSequenceLength() - getSecondSequenceLength();
+        final int maxEditDistance = getMaxEditDistance();
+        if (diff > maxEditDistance || -diff > maxEditDistance) {
+            throw new EditDistanceExceededException(maxEditDistance);
+        }
+        return super.calculateLcs();
+    }
+
+    /**
+     * Calculates only the edit distance {@code D} (the number of inserted
+     * and deleted elements, equal to {@code n + m - 2 * LCS}) using a
+     * single vector: no history is saved and no backtracking is done so
+     * the memory used is linear.
+     *
+     * @return the edit distance of the sequences.
+     */
+    public int calculateEditDistance() {
+        final int n = getFirstSequenceLength();
+        final int m = getSecondSequenceLength();
+        final int maxEditDistance = getMaxEditDistance();
+        if (n - m > maxEditDistance || m - n > maxEditDistance) {
+            throw new EditDistanceExceededException(maxEditDistance);
+        }
+        final int min = n < m ? n : m;
+        int head;
+        for (head = 0; head < min && sameAtIndex(head, head); head++) {}
+        int tail;
+        for (tail = 0; tail < min - head &&
+                sameAtIndex(n - 1 - tail, m - 1 - tail); tail++) {}
+        try {
+            return editDistance(head, n - head - tail, head, m - head - tail,
+                    maxEditDistance);
+        } finally {
+            if (pool != null) {
+                pool.trim();
+            }
+        }
+    }
+
+    private int editDistance(final int a0, final int n,
+            final int b0, final int m, final int maxEditDistance) {
+        if (n == 0 || m == 0) {
+            return n + m;
+        }
+        final int max = n + m + 1;
+        final int[] v;
+        if (pool == null) {
+            v = new int[(max << 1) + 1];
+        } else {
+            v = pool.getTable(LcsBufferPool.MYERS, 1, (max << 1) + 1)[0];
+            v[max + 1] = 0;
+        }
+
+        int maxk, x, y, next, prev;
+        for (int d = 0; d < max; d++) {
+            if (d > maxEditDistance) {
+                throw new EditDistanceExceededException(maxEditDistance);
+            }
+            for (int k = -d; k <= d; k += 2) {
+                maxk = max + k;
+
+                if (k == -d) {
+                    x = v[maxk + 1];
+                } else if (k == d) {
+                    x = v[maxk - 1] + 1;
+                } else {
+                    next = v[maxk + 1]; // down
+                    prev = v[maxk - 1]; // right
+                    x = (prev < next) ? next : prev + 1;
+                }
+
+                y = x - k;
+                while (x < n && y < m && sameAtIndex(a0 + x, b0 + y)) {
+                    x++;
+                    y++;
+                }
+                v[maxk] = x;
+
+                if (x >= n && y >= m) {
+                    return d;
+                }
+            }
+        }
+        throw new AssertionError();
+    }
+
+    /** The matches are found backtracking from the end. */
+    @Override
+    boolean isMatchInOrder() {
+        return false;
     }
 
     @Override
     LcsItemImpl lcs(final int a0, final int n, final int b0, final int m) {
         int max = n + m + 1;
+        final int maxEditDistance = getMaxEditDistance();
 
-        int[][] vv = new int[1 + (max >> 1)][];
-        int[] v = new int[(max << 1) + 1];
+        int[][] vv;
+        int[] v;
+        if (pool == null) {
+            vv = new int[1 + (max >> 1)][];
+            v = new int[(max << 1) + 1];
+        } else {
+            vv = pool.getHistory(1 + (max >> 1));
+            v = pool.getTable(LcsBufferPool.MYERS, 1, (max << 1) + 1)[0];
+            v[max + 1] = 0;
+        }
         int[] tmpV;
 
         int maxk, x, y, next, prev;
         for (int d = 0; d < max; d++) {
+            if (d > maxEditDistance) {
+                throw new EditDistanceExceededException(maxEditDistance);
+            }
             for (int k = -d; k <= d; k += 2) {
                 maxk = max + k;
 
@@ -56,9 +196,13 @@ public abstract class AbstractMyersLcs extends AbstractLcsHeadTailReducer {
                 v[maxk] = x;
 
                 if (x >= n && y >= m) {
+                    if (d == n + m) {
+                        // no match at all (the copy below would underflow)
+                        return null;
+                    }
                     int dd = d + (d & 1);
                     int size = (dd<<1) + 3;
-                    tmpV = new int[size + 2];
+                    tmpV = createRow(dd>>1, size + 2);
                     System.arraycopy(v, max-dd-1, tmpV, 1, size);
                     vv[dd>>1] = tmpV;
 
@@ -67,7 +211,7 @@ public abstract class AbstractMyersLcs extends AbstractLcsHeadTailReducer {
             }
             if ((d & 1) == 0) {
                 int size = (d<<1) + 3;
-                tmpV = new int[size + 2];
+                tmpV = createRow(d>>1, size + 2);
                 System.arraycopy(v, max-d-1, tmpV, 1, size);
                 vv[d>>1] = tmpV;
             }
@@ -75,12 +219,19 @@ public abstract class AbstractMyersLcs extends AbstractLcsHeadTailReducer {
         throw new AssertionError();
     }
 
+    private int[] createRow(int index, int length) {
+        if (pool == null) {
+            return new int[length];
+        }
+        return pool.getHistoryRow(index, length);
+    }
+
     private LcsItemImpl extractLcs(final int[][] vv, final int a0, final int b0,
             int d, int k, int x) {
         int maxk;
         int next;
         int prev;
-        int xStart, xMid;
+        int xStart, xMid, yMid;
         LcsItemImpl head=null;
         for (; d >= 0 && x > 0; d--) {
             int[] vNext = vv[d>>1];
@@ -88,6 +239,8 @@ public abstract class AbstractMyersLcs extends AbstractLcsHeadTailReducer {
 
             next = vNext[maxk + 1];
             prev = vNext[maxk - 1];
+            // the snake is on diagonal k, k moves to the previous one
+            yMid = -k;
             if (k == -d || (k != d && prev < next)) {
                 xStart = next;
                 xMid = next;
@@ -97,9 +250,10 @@ public abstract class AbstractMyersLcs extends AbstractLcsHeadTailReducer {
                 xMid = prev + 1;
                 k--;
             }
+            yMid += xMid;
 
             if (x != xMid) {
-                LcsItemImpl tmp = match(a0 + xMid, b0 + xMid - k, x - xMid);
+                LcsItemImpl tmp = match(a0 + xMid, b0 + yMid, x - xMid);
                 if (head == null) {
                     head = tmp;
                 } else {
@@ -25,6 +25,17 @@ public abstract class AbstractWagnerFischerLcs
         super(sizeOnly);
     }
 
+    /** @param pool keeps the working buffers between calls. */
+    public AbstractWagnerFischerLcs(boolean sizeOnly, LcsBufferPool pool) {
+        super(sizeOnly, pool);
+    }
+
+    /** The matches are found backtracking from the end. */
+    @Override
+    boolean isMatchInOrder() {
+        return false;
+    }
+
     @Override
     LcsItemImpl lcs(int a0, int n, int b0, int m) {
         int[][] d = computeDistanceMatrix(a0, n, b0, m);
@@ -62,6 +73,9 @@ public abstract class AbstractWagnerFischerLcs
 
     /** Override to provide a scoretable {@code int[x][y]}. */
     protected int[][] createScoretable(int x, int y) {
+        if (pool != null) {
+            return pool.getTable(LcsBufferPool.WAGNER_FISCHER, x, y);
+        }
         return new int[x][y];
     }
 
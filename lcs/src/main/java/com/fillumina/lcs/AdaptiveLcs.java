@@ -0,0 +1,153 @@
+package com.fillumina.lcs;
+
+import java.util.List;
+
+/**
+ * Selects the fastest algorithm to use for the given sequences following
+ * the table in the package description:
+ * <table border='1'>
+ * <tr><th></th><th>few elements</th><th>many elements</th></tr>
+ * <tr><th>similar</th><td>{@link MyersLcs}</td>
+ *     <td>{@link LinearSpaceMyersLcs}</td></tr>
+ * <tr><th>different</th><td>{@link WagnerFischerLcs}</td>
+ *     <td>{@link HirschbergLinearSpaceLcs}</td></tr>
+ * </table>
+ * The selection is performed on what remains of the sequences after
+ * removing their equal head and tail (as every algorithm does anyway).
+ * The similarity is estimated by sampling some elements of the first
+ * sequence and looking for them into a window around the
+ * corresponding position of the second one, so its cost doesn't depend on
+ * the length of the sequences.
+ * <p>
+ * The default thresholds come from the performance tests, they can be
+ * tuned for a specific workload with the {@code lcs-benchmarks} module
+ * and passed to the constructor.
+ *
+ * @author Francesco Illuminati
+ */
+public class AdaptiveLcs implements Lcs {
+    /** Sequences with less elements than this are considered small. */
+    public static final int DEFAULT_SMALL_SEQUENCE_THRESHOLD = 50;
+    /** Sequences with a higher estimated similarity are considered similar. */
+    public static final double DEFAULT_SIMILARITY_THRESHOLD = 0.5;
+    /** Number of elements sampled to estimate the similarity. */
+    public static final int DEFAULT_SAMPLE_SIZE = 32;
+
+    private static final int MIN_WINDOW = 4;
+    private static final int MAX_WINDOW = 1024;
+
+    public static final AdaptiveLcs INSTANCE = new AdaptiveLcs();
+
+    private final int smallSequenceThreshold;
+    private final double similarityThreshold;
+    private final int sampleSize;
+
+    public AdaptiveLcs() {
+        this(DEFAULT_SMALL_SEQUENCE_THRESHOLD, DEFAULT_SIMILARITY_THRESHOLD,
+                DEFAULT_SAMPLE_SIZE);
+    }
+
+    /**
+     * @param smallSequenceThreshold sequences (without their equal head
+     *                  and tail) shorter than this use the algorithms for
+     *                  few elements
+     * @param similarityThreshold sequences with an estimated similarity
+     *                  (from 0 to 1) equal or greater than this are
+     *                  considered similar
+     * @param sampleSize how many elements to sample to estimate the
+     *                  similarity
+     */
+    public AdaptiveLcs(int smallSequenceThreshold,
+            double similarityThreshold, int sampleSize) {
+        if (sampleSize < 1) {
+            throw new IllegalArgumentException(
+                    "sampleSize must be positive: " + sampleSize);
+        }
+        this.smallSequenceThreshold = smallSequenceThreshold;
+        this.similarityThreshold = similarityThreshold;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public <T> List<T> calculateLcs(T[] a, T[] b) {
+        return selectAlgorithm(a, b).calculateLcs(a, b);
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
+        return selectAlgorithm(a, b).calculateLcsIndexes(a, b);
+    }
+
+    @Override
+    public int calculateLcsLength(Object[] a, Object[] b) {
+        return selectAlgorithm(a, b).calculateLcsLength(a, b);
+    }
+
+    /** @return the algorithm that would be used for the given sequences. */
+    public Lcs selectAlgorithm(Object[] a, Object[] b) {
+        final int n = a == null ? 0 : a.length;
+        final int m = b == null ? 0 : b.length;
+        final int min = n < m ? n : m;
+
+        int head;
+        for (head = 0; head < min && same(a[head], b[head]); head++) {}
+        int tail;
+        for (tail = 0; tail < min - head &&
+                same(a[n - 1 - tail], b[m - 1 - tail]); tail++) {}
+
+        final int n1 = n - head - tail;
+        final int m1 = m - head - tail;
+        if (n1 == 0 || m1 == 0) {
+            // resolved by the head-tail optimization of any algorithm
+            return LinearSpaceMyersLcs.INSTANCE;
+        }
+
+        final boolean similar = estimateSimilarity(
+                a, head, n1, b, head, m1) >= similarityThreshold;
+        if ((n1 > m1 ? n1 : m1) < smallSequenceThreshold) {
+            return similar ? MyersLcs.INSTANCE : WagnerFischerLcs.INSTANCE;
+        }
+        return similar ? LinearSpaceMyersLcs.INSTANCE :
+                HirschbergLinearSpaceLcs.INSTANCE;
+    }
+
+    /**
+     * Estimates the similarity (from 0 to 1) of the given (non empty)
+     * sections of the two sequences as the fraction of sampled elements of
+     * the first one found near the corresponding position of the second one
+     * weighted by the ratio of their lengths (which is the maximum
+     * possible similarity).
+     */
+    double estimateSimilarity(Object[] a, int a0, int n,
+            Object[] b, int b0, int m) {
+        final int samples = n < sampleSize ? n : sampleSize;
+        final int max = n > m ? n : m;
+        int window = max / samples;
+        if (window < MIN_WINDOW) {
+            window = MIN_WINDOW;
+        } else if (window > MAX_WINDOW) {
+            window = MAX_WINDOW;
+        }
+
+        int found = 0;
+        for (int s = 0; s < samples; s++) {
+            final int x = (int) ((long) s * n / samples);
+            final int y = (int) ((long) x * m / n);
+            final int yStart = y - window < 0 ? 0 : y - window;
+            final int yEnd = y + window > m ? m : y + window;
+            final Object item = a[a0 + x];
+            for (int j = yStart; j < yEnd; j++) {
+                if (same(item, b[b0 + j])) {
+                    found++;
+                    break;
+                }
+            }
+        }
+        final int min = n < m ? n : m;
+        return (double) found / samples * min / max;
+    }
+
+    private static boolean same(Object x, Object y) {
+        return (x == y) || (x != null && x.equals(y));
+    }
+}
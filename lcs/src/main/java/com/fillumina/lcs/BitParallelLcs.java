@@ -0,0 +1,122 @@
+package com.fillumina.lcs;
+
+import java.util.List;
+
+/**
+ * Calculates the LCS length with a bit-parallel algorithm that processes
+ * 64 elements per machine word: it is an order of magnitude faster than
+ * the other algorithms when only the length is needed (i.e. to score the
+ * similarity of sequences). The LCS and its indexes are calculated by the
+ * given algorithm (on interned sequences when they are objects).
+ * <p>
+ * The time needed doesn't depend on the similarity of the sequences but
+ * only on their lengths ({@code O(n*m/64)}), the sequences of objects
+ * are interned before the calculation.
+ *
+ * @see BitParallelLcsLength
+ * @author Francesco Illuminati
+ */
+public class BitParallelLcs implements Lcs, PrimitiveLcs {
+    public static final BitParallelLcs INSTANCE =
+            new BitParallelLcs(LinearSpaceMyersLcs.INSTANCE);
+
+    private final PrimitiveLcs lcs;
+    private final InterningLcs interningLcs;
+
+    /** @param lcs the algorithm used to calculate the LCS items. */
+    public BitParallelLcs(PrimitiveLcs lcs) {
+        this.lcs = lcs;
+        this.interningLcs = new InterningLcs(lcs);
+    }
+
+    @Override
+    public <T> List<T> calculateLcs(T[] a, T[] b) {
+        return interningLcs.calculateLcs(a, b);
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
+        return interningLcs.calculateLcsIndexes(a, b);
+    }
+
+    @Override
+    public int calculateLcsLength(Object[] a, Object[] b) {
+        return interningLcs.calculateLcsLength(a, b);
+    }
+
+    @Override
+    public int[] calculateLcs(int[] a, int[] b) {
+        return lcs.calculateLcs(a, b);
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(int[] a, int[] b) {
+        return lcs.calculateLcsIndexes(a, b);
+    }
+
+    @Override
+    public int calculateLcsLength(int[] a, int[] b) {
+        return BitParallelLcsLength.lcsLength(a, b);
+    }
+
+    @Override
+    public long[] calculateLcs(long[] a, long[] b) {
+        return lcs.calculateLcs(a, b);
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(long[] a, long[] b) {
+        return lcs.calculateLcsIndexes(a, b);
+    }
+
+    @Override
+    public int calculateLcsLength(long[] a, long[] b) {
+        return BitParallelLcsLength.lcsLength(a, b);
+    }
+
+    @Override
+    public char[] calculateLcs(char[] a, char[] b) {
+        return lcs.calculateLcs(a, b);
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(char[] a, char[] b) {
+        return lcs.calculateLcsIndexes(a, b);
+    }
+
+    @Override
+    public int calculateLcsLength(char[] a, char[] b) {
+        return BitParallelLcsLength.lcsLength(a, b);
+    }
+
+    @Override
+    public byte[] calculateLcs(byte[] a, byte[] b) {
+        return lcs.calculateLcs(a, b);
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(byte[] a, byte[] b) {
+        return lcs.calculateLcsIndexes(a, b);
+    }
+
+    @Override
+    public int calculateLcsLength(byte[] a, byte[] b) {
+        return BitParallelLcsLength.lcsLength(a, b);
+    }
+
+    @Override
+    public String calculateLcs(CharSequence a, CharSequence b) {
+        return lcs.calculateLcs(a, b);
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(CharSequence a, CharSequence b) {
+        return lcs.calculateLcsIndexes(a, b);
+    }
+
+    @Override
+    public int calculateLcsLength(CharSequence a, CharSequence b) {
+        return calculateLcsLength(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+}
@@ -0,0 +1,227 @@
+package com.fillumina.lcs;
+
+import java.util.Arrays;
+
+/**
+ * Calculates the length of the LCS using the bit-vector algorithm by
+ * Allison-Dix and Hyyro: each position of the longer sequence is a bit and
+ * 64 of them are processed at once for each element of the shorter
+ * sequence, so it takes {@code O(n*m/64)} time.
+ * <p>
+ * The sequences are converted to dense ids and the bit masks of the
+ * symbols are built one word (64 positions) at a time so that only
+ * {@code O(alphabet + m)} additional memory is used regardless of the
+ * number of words.
+ *
+ * @see <a href='http://www.sciencedirect.com/science/article/pii/002001909290017V'>
+ *  Allison, Dix: A bit-string longest-common-subsequence algorithm
+ * </a>
+ * @author Francesco Illuminati
+ */
+final class BitParallelLcsLength {
+
+    private BitParallelLcsLength() {}
+
+    static int lcsLength(int[] a, int[] b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        final int[] keys = a.clone();
+        Arrays.sort(keys);
+        final int size = unique(keys);
+        final int[] ida = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            ida[i] = Arrays.binarySearch(keys, 0, size, a[i]);
+        }
+        final int[] idb = new int[b.length];
+        for (int i = 0; i < b.length; i++) {
+            idb[i] = Arrays.binarySearch(keys, 0, size, b[i]);
+        }
+        return lcsLengthOfIds(ida, idb, size);
+    }
+
+    static int lcsLength(long[] a, long[] b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        final long[] keys = a.clone();
+        Arrays.sort(keys);
+        final int size = unique(keys);
+        final int[] ida = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            ida[i] = Arrays.binarySearch(keys, 0, size, a[i]);
+        }
+        final int[] idb = new int[b.length];
+        for (int i = 0; i < b.length; i++) {
+            idb[i] = Arrays.binarySearch(keys, 0, size, b[i]);
+        }
+        return lcsLengthOfIds(ida, idb, size);
+    }
+
+    static int lcsLength(char[] a, char[] b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        final char[] keys = a.clone();
+        Arrays.sort(keys);
+        final int size = unique(keys);
+        final int[] ida = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            ida[i] = Arrays.binarySearch(keys, 0, size, a[i]);
+        }
+        final int[] idb = new int[b.length];
+        for (int i = 0; i < b.length; i++) {
+            idb[i] = Arrays.binarySearch(keys, 0, size, b[i]);
+        }
+        return lcsLengthOfIds(ida, idb, size);
+    }
+
+    static int lcsLength(byte[] a, byte[] b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        final int[] ida = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            ida[i] = a[i] & 0xFF;
+        }
+        final int[] idb = new int[b.length];
+        for (int i = 0; i < b.length; i++) {
+            idb[i] = b[i] & 0xFF;
+        }
+        return lcsLengthOfIds(ida, idb, 256);
+    }
+
+    /** Removes the duplicates from a sorted array returning its new size. */
+    private static int unique(int[] sorted) {
+        int size = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+
+    private static int unique(long[] sorted) {
+        int size = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+
+    private static int unique(char[] sorted) {
+        int size = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @param a     ids of the first sequence
+     * @param b     ids of the second sequence
+     * @param alphabetSize ids outside of {@code [0, alphabetSize)} (i.e.
+     *              {@link Interner#NOT_FOUND}) don't match anything,
+     *              not even themselves.
+     * @return the length of the LCS
+     */
+    static int lcsLengthOfIds(int[] a, int[] b, int alphabetSize) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        final int n = a.length;
+        final int m = b.length;
+        final int min = n < m ? n : m;
+
+        int head;
+        for (head = 0; head < min &&
+                same(a[head], b[head], alphabetSize); head++) {}
+        int tail;
+        for (tail = 0; tail < min - head &&
+                same(a[n - 1 - tail], b[m - 1 - tail], alphabetSize);
+                tail++) {}
+
+        // the longer sequence is the bit pattern so the words are better
+        // filled (its last word is the only one partially used)
+        final int[] p, t;
+        final int pn, tn;
+        if (n >= m) {
+            p = a; pn = n - head - tail;
+            t = b; tn = m - head - tail;
+        } else {
+            p = b; pn = m - head - tail;
+            t = a; tn = n - head - tail;
+        }
+        if (pn == 0 || tn == 0) {
+            return head + tail;
+        }
+
+        // unknown ids are mapped to a symbol with an always empty mask
+        final int unknown = alphabetSize;
+        final long[] pm = new long[alphabetSize + 1];
+        final int[] text = new int[tn];
+        for (int j = 0; j < tn; j++) {
+            final int id = t[head + j];
+            text[j] = id < 0 || id >= alphabetSize ? unknown : id;
+        }
+
+        // carries between consecutive words for each element of the text
+        final boolean[] carry = new boolean[tn];
+        int lcs = 0;
+        for (int start = head, end = head + pn; start < end; start += 64) {
+            final int wordEnd = start + 64 < end ? start + 64 : end;
+            for (int i = start; i < wordEnd; i++) {
+                final int id = p[i];
+                if (id >= 0 && id < alphabetSize) {
+                    pm[id] |= 1L << (i - start);
+                }
+            }
+
+            lcs += lcsLengthOfWord(pm, 1, 0, text, tn, carry);
+
+            for (int i = start; i < wordEnd; i++) {
+                final int id = p[i];
+                if (id >= 0 && id < alphabetSize) {
+                    pm[id] = 0;
+                }
+            }
+        }
+        return head + tail + lcs;
+    }
+
+    /**
+     * Processes the whole text against a single word (64 elements) of the
+     * pattern.
+     *
+     * @param pm    the masks of the word: the one of the row {@code r} is
+     *              at {@code r * stride + offset}
+     * @param text  the rows of the elements of the text
+     * @param carry the carries from the previous word for each element of
+     *              the text (all {@code false} for the first word), they
+     *              are updated for the next word
+     * @return the length of the LCS of the word, the LCS of the whole
+     *         pattern is the sum over all its words
+     */
+    static int lcsLengthOfWord(long[] pm, int stride, int offset,
+            int[] text, int m, boolean[] carry) {
+        // the unused bits of the last word remain set
+        long v = -1L;
+        long u, sum;
+        for (int j = 0; j < m; j++) {
+            u = v & pm[text[j] * stride + offset];
+            sum = v + u + (carry[j] ? 1 : 0);
+            carry[j] = ((v & u) | ((v | u) & ~sum)) < 0;
+            v = sum | (v & ~u);
+        }
+        return Long.bitCount(~v);
+    }
+
+    private static boolean same(int x, int y, int alphabetSize) {
+        return x == y && x >= 0 && x < alphabetSize;
+    }
+}
@@ -0,0 +1,96 @@
+package com.fillumina.lcs;
+
+/**
+ * Assigns a dense int id (starting from 0) to each distinct char just like
+ * {@link Interner} does for objects. The ids are kept into a small open
+ * addressing table which is much faster than boxing each char into a map.
+ * This class is not thread safe.
+ *
+ * @author Francesco Illuminati
+ */
+public class CharInterner {
+    /** Returned by {@link #idOf(char)} for unknown chars. */
+    public static final int NOT_FOUND = Interner.NOT_FOUND;
+
+    private char[] keys;
+    // the id + 1 of the char at the same slot (0 is an empty slot)
+    private int[] ids;
+    private int mask;
+    private int size;
+
+    public CharInterner() {
+        this(8);
+    }
+
+    /** @param expectedSize the expected number of distinct chars. */
+    public CharInterner(int expectedSize) {
+        int capacity = 2;
+        while (capacity < expectedSize << 1) {
+            capacity <<= 1;
+        }
+        this.keys = new char[capacity];
+        this.ids = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /** @return the id of the char, a new one if it's not known. */
+    public int intern(char c) {
+        int slot = slot(c);
+        if (ids[slot] == 0) {
+            // keeps the table at most half full
+            if (size << 1 >= mask) {
+                rehash();
+                slot = slot(c);
+            }
+            keys[slot] = c;
+            ids[slot] = ++size;
+        }
+        return ids[slot] - 1;
+    }
+
+    /**
+     * @return the id of the char or {@link #NOT_FOUND} if it has never
+     *         been interned.
+     */
+    public int idOf(char c) {
+        return ids[slot(c)] - 1;
+    }
+
+    /** @return the ids of the chars of the sequence interning them. */
+    public int[] intern(CharSequence sequence) {
+        final int[] result = new int[sequence.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = intern(sequence.charAt(i));
+        }
+        return result;
+    }
+
+    /** @return the number of distinct interned chars. */
+    public int size() {
+        return size;
+    }
+
+    /** @return the slot of the char or the empty one where to put it. */
+    private int slot(char c) {
+        int slot = (c * 0x9E3779B1) >>> 16 & mask;
+        while (ids[slot] != 0 && keys[slot] != c) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        final char[] oldKeys = keys;
+        final int[] oldIds = ids;
+        keys = new char[oldKeys.length << 1];
+        ids = new int[oldIds.length << 1];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldIds[i] != 0) {
+                final int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                ids[slot] = oldIds[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.fillumina.lcs;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Holds the pool used by the parallel algorithms when none is given. It is
+ * created on first use with as many threads as processors (the common pool
+ * is not available in Java 7).
+ *
+ * @author Francesco Illuminati
+ */
+final class DefaultForkJoinPool {
+    static final ForkJoinPool INSTANCE = new ForkJoinPool();
+
+    private DefaultForkJoinPool() {}
+}
@@ -0,0 +1,26 @@
+package com.fillumina.lcs;
+
+/**
+ * Thrown by the Myers algorithms when the edit distance between the
+ * sequences (the number of elements not in the LCS) is greater than
+ * the allowed maximum. It allows to put a hard limit on the time spent
+ * on sequences too different to be worth the calculation.
+ *
+ * @see AbstractMyersLcs#getMaxEditDistance()
+ * @see AbstractLinearSpaceMyersLcs#getMaxEditDistance()
+ * @author Francesco Illuminati
+ */
+public class EditDistanceExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int maxEditDistance;
+
+    public EditDistanceExceededException(int maxEditDistance) {
+        super("edit distance greater than " + maxEditDistance);
+        this.maxEditDistance = maxEditDistance;
+    }
+
+    public int getMaxEditDistance() {
+        return maxEditDistance;
+    }
+}
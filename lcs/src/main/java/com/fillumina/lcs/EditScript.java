@@ -0,0 +1,185 @@
+package com.fillumina.lcs;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The operations that transform the first sequence into the second one
+ * derived from their LCS: sequences of matching, deleted (only in the
+ * first sequence) and inserted (only in the second sequence) elements.
+ * Each operation is kept as 4 ints into a single array and carries the
+ * position in both sequences where it starts. It is calculated in
+ * {@code O(n+m)} by walking the LCS matches once.
+ *
+ * @see UnifiedDiffFormatter
+ * @author Francesco Illuminati
+ */
+public class EditScript {
+
+    public enum Operation {
+        MATCH, DELETE, INSERT
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private int[] data;
+    private int size;
+    private int deleted;
+    private int inserted;
+
+    private EditScript(int capacity) {
+        this.data = new int[capacity << 2];
+    }
+
+    /**
+     * @param lcs the LCS (can be {@code null})
+     * @param firstSequenceLength  the length of the first sequence
+     * @param secondSequenceLength the length of the second sequence
+     */
+    public static EditScript of(List<LcsItem> lcs, int firstSequenceLength,
+            int secondSequenceLength) {
+        return of(LcsMatches.of(lcs), firstSequenceLength,
+                secondSequenceLength);
+    }
+
+    /**
+     * @param matches the LCS
+     * @param firstSequenceLength  the length of the first sequence
+     * @param secondSequenceLength the length of the second sequence
+     */
+    public static EditScript of(LcsMatches matches, int firstSequenceLength,
+            int secondSequenceLength) {
+        final Builder builder = new Builder(matches.size() * 3 + 2);
+        matches.accept(builder, firstSequenceLength, secondSequenceLength);
+        return builder.script;
+    }
+
+    private static class Builder implements LcsVisitor {
+        private final EditScript script;
+        private int x, y;
+
+        Builder(int capacity) {
+            this.script = new EditScript(capacity);
+        }
+
+        @Override
+        public void onMatch(int x, int y, int steps) {
+            script.add(Operation.MATCH, x, y, steps);
+            this.x = x + steps;
+            this.y = y + steps;
+        }
+
+        @Override
+        public void onDelete(int x, int steps) {
+            script.add(Operation.DELETE, x, y, steps);
+            script.deleted += steps;
+            this.x = x + steps;
+        }
+
+        @Override
+        public void onInsert(int y, int steps) {
+            script.add(Operation.INSERT, x, y, steps);
+            script.inserted += steps;
+            this.y = y + steps;
+        }
+    }
+
+    private void add(Operation operation, int x, int y, int length) {
+        final int index = size << 2;
+        if (index == data.length) {
+            data = Arrays.copyOf(data, (index << 1) + 4);
+        }
+        data[index] = operation.ordinal();
+        data[index + 1] = x;
+        data[index + 2] = y;
+        data[index + 3] = length;
+        size++;
+    }
+
+    /** @return the number of operations. */
+    public int size() {
+        return size;
+    }
+
+    /** @return {@code true} if the sequences are equal. */
+    public boolean isIdentity() {
+        return deleted == 0 && inserted == 0;
+    }
+
+    /** @return the number of deleted plus inserted elements. */
+    public int getEditDistance() {
+        return deleted + inserted;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public Operation getOperation(int index) {
+        checkIndex(index);
+        return OPERATIONS[data[index << 2]];
+    }
+
+    /** @return the position in the first sequence of the operation. */
+    public int getFirstSequenceIndex(int index) {
+        checkIndex(index);
+        return data[(index << 2) + 1];
+    }
+
+    /** @return the position in the second sequence of the operation. */
+    public int getSecondSequenceIndex(int index) {
+        checkIndex(index);
+        return data[(index << 2) + 2];
+    }
+
+    /** @return the number of elements of the operation. */
+    public int getLength(int index) {
+        checkIndex(index);
+        return data[(index << 2) + 3];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "index: " + index + ", size: " + size);
+        }
+    }
+
+    /** Passes all the operations in order to the given visitor. */
+    public void accept(LcsVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            final int index = i << 2;
+            switch (OPERATIONS[data[index]]) {
+                case MATCH:
+                    visitor.onMatch(data[index + 1], data[index + 2],
+                            data[index + 3]);
+                    break;
+                case DELETE:
+                    visitor.onDelete(data[index + 1], data[index + 3]);
+                    break;
+                default:
+                    visitor.onInsert(data[index + 2], data[index + 3]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("EditScript{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            final int index = i << 2;
+            buf.append(OPERATIONS[data[index]])
+                    .append('(').append(data[index + 1])
+                    .append(',').append(data[index + 2])
+                    .append(")x").append(data[index + 3]);
+        }
+        return buf.append('}').toString();
+    }
+}
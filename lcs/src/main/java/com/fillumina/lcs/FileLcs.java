@@ -0,0 +1,192 @@
+package com.fillumina.lcs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Calculates the LCS of the lines of two files without loading them into
+ * the heap. The files are memory mapped and the positions and a 64 bit
+ * hash of each line are kept into direct buffers (24 bytes per line).
+ * The linear space Myers algorithm compares the hashes and the bytes
+ * of the lines are checked only when the hashes are equal, so no
+ * {@code String} is ever created and files bigger than the heap can be
+ * compared.
+ * <p>
+ * Lines are terminated by {@code '\n'} or {@code "\r\n"} (the terminator
+ * is not part of the line). The returned indexes are line numbers
+ * (starting from 0). This class is thread safe.
+ *
+ * @author Francesco Illuminati
+ */
+public class FileLcs {
+    public static final FileLcs INSTANCE = new FileLcs();
+
+    /** @return the LCS of the lines of the given files. */
+    public List<LcsItem> calculateLcsIndexes(Path a, Path b)
+            throws IOException {
+        return new Inner(false, new MappedLines(a), new MappedLines(b))
+                .calculateLcs();
+    }
+
+    /** @return the number of lines in the LCS of the given files. */
+    public int calculateLcsLength(Path a, Path b) throws IOException {
+        return new Inner(true, new MappedLines(a), new MappedLines(b))
+                .calculateLcsLength();
+    }
+
+    private static class Inner extends AbstractLinearSpaceMyersLcs {
+        private final MappedLines a, b;
+
+        Inner(boolean sizeOnly, MappedLines a, MappedLines b) {
+            super(sizeOnly);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean sameAtIndex(int i, int j) {
+            return a.hash(i) == b.hash(j) && a.sameLine(i, b, j);
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a.size();
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b.size();
+        }
+    }
+
+    /**
+     * A memory mapped file divided in lines. Files bigger than 2GB are
+     * mapped in more regions.
+     */
+    private static class MappedLines {
+        private static final int REGION_BITS = 30;
+        private static final long REGION_SIZE = 1L << REGION_BITS;
+        private static final long REGION_MASK = REGION_SIZE - 1;
+        // the indexes of the direct buffers are ints
+        private static final int MAX_LINES = Integer.MAX_VALUE >> 3;
+
+        private final MappedByteBuffer[] regions;
+        // the start (inclusive) and end (exclusive) of each line
+        private final LongBuffer starts, ends;
+        private final LongBuffer hashes;
+        private final int lines;
+
+        MappedLines(Path path) throws IOException {
+            final long size;
+            try (FileChannel channel =
+                    FileChannel.open(path, StandardOpenOption.READ)) {
+                size = channel.size();
+                regions = new MappedByteBuffer[
+                        (int) ((size + REGION_SIZE - 1) >>> REGION_BITS)];
+                for (int r = 0; r < regions.length; r++) {
+                    final long position = ((long) r) << REGION_BITS;
+                    regions[r] = channel.map(FileChannel.MapMode.READ_ONLY,
+                            position, Math.min(REGION_SIZE, size - position));
+                }
+            }
+
+            long count = 0;
+            for (MappedByteBuffer region : regions) {
+                for (int i = 0, l = region.limit(); i < l; i++) {
+                    if (region.get(i) == '\n') {
+                        count++;
+                    }
+                }
+            }
+            if (size > 0 && get(size - 1) != '\n') {
+                count++; // last line without terminator
+            }
+            if (count > MAX_LINES) {
+                throw new IllegalArgumentException(
+                        "too many lines in " + path + ": " + count);
+            }
+            lines = (int) count;
+            starts = allocate(lines);
+            ends = allocate(lines);
+            hashes = allocate(lines);
+
+            // FNV-1a hash of each line
+            final long offsetBasis = 0xcbf29ce484222325L;
+            final long prime = 0x100000001b3L;
+            long hash = offsetBasis;
+            long hashBeforeCR = offsetBasis;
+            byte previous = 0;
+            long start = 0;
+            int line = 0;
+            for (int r = 0; r < regions.length; r++) {
+                final MappedByteBuffer region = regions[r];
+                final long base = ((long) r) << REGION_BITS;
+                for (int i = 0, l = region.limit(); i < l; i++) {
+                    final byte value = region.get(i);
+                    if (value == '\n') {
+                        final long end = base + i;
+                        if (previous == '\r' && end > start) {
+                            addLine(line++, start, end - 1, hashBeforeCR);
+                        } else {
+                            addLine(line++, start, end, hash);
+                        }
+                        hash = offsetBasis;
+                        start = end + 1;
+                    } else {
+                        hashBeforeCR = hash;
+                        hash = (hash ^ (value & 0xFF)) * prime;
+                    }
+                    previous = value;
+                }
+            }
+            if (line < lines) {
+                addLine(line, start, size, hash);
+            }
+        }
+
+        private static LongBuffer allocate(int size) {
+            return ByteBuffer.allocateDirect(size << 3).asLongBuffer();
+        }
+
+        private void addLine(int line, long start, long end, long hash) {
+            starts.put(line, start);
+            ends.put(line, end);
+            hashes.put(line, hash);
+        }
+
+        private byte get(long position) {
+            return regions[(int) (position >>> REGION_BITS)]
+                    .get((int) (position & REGION_MASK));
+        }
+
+        int size() {
+            return lines;
+        }
+
+        long hash(int line) {
+            return hashes.get(line);
+        }
+
+        /** Verifies that the lines with the same hash are really equal. */
+        boolean sameLine(int line, MappedLines other, int otherLine) {
+            final long start = starts.get(line);
+            final long length = ends.get(line) - start;
+            final long otherStart = other.starts.get(otherLine);
+            if (other.ends.get(otherLine) - otherStart != length) {
+                return false;
+            }
+            for (long i = 0; i < length; i++) {
+                if (get(start + i) != other.get(otherStart + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
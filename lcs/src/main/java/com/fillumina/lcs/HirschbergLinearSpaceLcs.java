@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The Hirschberg linear space algorithm is very memory efficient (only
@@ -19,28 +20,124 @@ import java.util.List;
  * </a>
  * @author Francesco Illuminati
  */
-public class HirschbergLinearSpaceLcs implements Lcs {
+public class HirschbergLinearSpaceLcs implements Lcs, PrimitiveLcs {
     public static final HirschbergLinearSpaceLcs INSTANCE =
             new HirschbergLinearSpaceLcs();
 
+    private final LcsBufferPool pool;
+
+    public HirschbergLinearSpaceLcs() {
+        this(null);
+    }
+
+    /**
+     * Keeps the working buffers between calls into the given pool. The
+     * pool is not thread safe and so it is the returned instance.
+     */
+    public HirschbergLinearSpaceLcs(LcsBufferPool pool) {
+        this.pool = pool;
+    }
+
     @Override
     public <T> List<T> calculateLcs(T[] a, T[] b) {
-        final Inner<T> inner = new Inner<>(false, a, b);
+        final Inner<T> inner = new Inner<>(false, a, b, pool);
         List<LcsItem> lcs = inner.calculateLcs();
         return inner.extractLcsList(lcs);
     }
 
     @Override
     public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
-        return new Inner<>(false, a, b).calculateLcs();
+        return new Inner<>(false, a, b, pool).calculateLcs();
     }
 
     @Override
     public int calculateLcsLength(Object[] a, Object[] b) {
-        return new Inner<>(true, a, b).calculateLcsLength();
+        return new Inner<>(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public int[] calculateLcs(int[] a, int[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new IntInner(false, a, b, pool).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(int[] a, int[] b) {
+        return new IntInner(false, a, b, pool).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(int[] a, int[] b) {
+        return new IntInner(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public long[] calculateLcs(long[] a, long[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new LongInner(false, a, b, pool).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(long[] a, long[] b) {
+        return new LongInner(false, a, b, pool).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(long[] a, long[] b) {
+        return new LongInner(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public char[] calculateLcs(char[] a, char[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new CharInner(false, a, b, pool).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(char[] a, char[] b) {
+        return new CharInner(false, a, b, pool).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(char[] a, char[] b) {
+        return new CharInner(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public byte[] calculateLcs(byte[] a, byte[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new ByteInner(false, a, b, pool).calculateLcs());
     }
 
-    private static class Inner<T> extends AbstractHirschbergLinearSpaceLcs {
+    @Override
+    public List<LcsItem> calculateLcsIndexes(byte[] a, byte[] b) {
+        return new ByteInner(false, a, b, pool).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(byte[] a, byte[] b) {
+        return new ByteInner(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public String calculateLcs(CharSequence a, CharSequence b) {
+        return new String(calculateLcs(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b)));
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(CharSequence a, CharSequence b) {
+        return calculateLcsIndexes(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    @Override
+    public int calculateLcsLength(CharSequence a, CharSequence b) {
+        return calculateLcsLength(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    static class Inner<T> extends AbstractHirschbergLinearSpaceLcs {
         private final T[] a, b;
 
         /**
@@ -55,12 +152,21 @@ public class HirschbergLinearSpaceLcs implements Lcs {
         public Inner(boolean sizeOnly,
                 final Collection<? extends T> a,
                 final Collection<? extends T> b) {
-            this(sizeOnly, a.toArray(), b.toArray());
+            this(sizeOnly, a.toArray(), b.toArray(), null);
+        }
+
+        @SuppressWarnings("unchecked")
+        public Inner(boolean sizeOnly, final Object[] a, final Object[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = (T[]) a;
+            this.b = (T[]) b;
         }
 
         @SuppressWarnings("unchecked")
-        public Inner(boolean sizeOnly, final Object[] a, final Object[] b) {
-            super(sizeOnly);
+        Inner(final Object[] a, final Object[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
             this.a = (T[]) a;
             this.b = (T[]) b;
         }
@@ -94,4 +200,136 @@ public class HirschbergLinearSpaceLcs implements Lcs {
             return b == null ? 0 : b.length;
         }
     }
+
+    static class IntInner extends AbstractHirschbergLinearSpaceLcs {
+        private final int[] a, b;
+
+        public IntInner(boolean sizeOnly, final int[] a, final int[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = a;
+            this.b = b;
+        }
+
+        IntInner(final int[] a, final int[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    static class LongInner extends AbstractHirschbergLinearSpaceLcs {
+        private final long[] a, b;
+
+        public LongInner(boolean sizeOnly, final long[] a, final long[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = a;
+            this.b = b;
+        }
+
+        LongInner(final long[] a, final long[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    static class CharInner extends AbstractHirschbergLinearSpaceLcs {
+        private final char[] a, b;
+
+        public CharInner(boolean sizeOnly, final char[] a, final char[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = a;
+            this.b = b;
+        }
+
+        CharInner(final char[] a, final char[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    static class ByteInner extends AbstractHirschbergLinearSpaceLcs {
+        private final byte[] a, b;
+
+        public ByteInner(boolean sizeOnly, final byte[] a, final byte[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = a;
+            this.b = b;
+        }
+
+        ByteInner(final byte[] a, final byte[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package com.fillumina.lcs;
+
+/**
+ * Histogram diff (as implemented by JGit and git): the sequences are split
+ * around the longest common region containing the element with the lowest
+ * number of occurrences in the first sequence. The parts before and after
+ * the region are processed the same way. When all the common elements
+ * occur too many times the linear space Myers algorithm is used instead.
+ * It extends patience diff to sequences with no unique elements and it is
+ * usually faster.
+ * <p>
+ * The returned LCS is not always the longest. This class is thread safe.
+ *
+ * @see <a href='https://github.com/eclipse/jgit/blob/master/org.eclipse.jgit/src/org/eclipse/jgit/diff/HistogramDiff.java'>
+ *  JGit HistogramDiff
+ * </a>
+ * @author Francesco Illuminati
+ */
+public class HistogramLcs extends AbstractAnchoredLcs {
+    public static final HistogramLcs INSTANCE = new HistogramLcs();
+
+    /** Elements occurring more than this are not used to split. */
+    public static final int DEFAULT_MAX_CHAIN_LENGTH = 64;
+
+    private final int maxChainLength;
+
+    public HistogramLcs() {
+        this(DEFAULT_MAX_CHAIN_LENGTH);
+    }
+
+    /**
+     * @param maxChainLength the maximum number of occurrences in the first
+     *          sequence of an element to be used to split the sequences
+     */
+    public HistogramLcs(int maxChainLength) {
+        this.maxChainLength = maxChainLength;
+    }
+
+    @Override
+    IdsLinearSpaceMyersLcs createEngine(boolean sizeOnly,
+            int[] a, int[] b, int alphabetSize) {
+        return new Engine(sizeOnly, a, b, alphabetSize, maxChainLength);
+    }
+
+    private static class Engine extends IdsLinearSpaceMyersLcs {
+        private final int maxChainLength;
+        // indexed by id, count is cleared after each use
+        private final int[] count, lastPosition;
+        // indexed by position: the previous occurrence of the same element
+        private final int[] previousPosition;
+
+        Engine(boolean sizeOnly, int[] a, int[] b, int alphabetSize,
+                int maxChainLength) {
+            super(sizeOnly, a, b);
+            this.maxChainLength = maxChainLength;
+            this.count = new int[alphabetSize];
+            this.lastPosition = new int[alphabetSize];
+            this.previousPosition = new int[a.length];
+        }
+
+        @Override
+        LcsItemImpl lcs(final int a0, final int n, final int b0, final int m) {
+            final int aEnd = a0 + n;
+            final int bEnd = b0 + m;
+            int id;
+            for (int i = a0; i < aEnd; i++) {
+                id = a[i];
+                previousPosition[i] = count[id] == 0 ? -1 : lastPosition[id];
+                lastPosition[id] = i;
+                count[id]++;
+            }
+
+            int bestX = 0;
+            int bestY = 0;
+            int bestLength = 0;
+            int bestCount = maxChainLength + 1;
+            int nextY;
+            for (int j = b0; j < bEnd; j = nextY) {
+                nextY = j + 1;
+                id = b[j];
+                if (id < 0 || count[id] == 0 || count[id] > bestCount ||
+                        count[id] > maxChainLength) {
+                    continue;
+                }
+                for (int i = lastPosition[id]; i >= 0;
+                        i = previousPosition[i]) {
+                    // extends the match to the whole common region
+                    int regionCount = count[id];
+                    int xs = i;
+                    int ys = j;
+                    while (xs > a0 && ys > b0 && a[xs - 1] == b[ys - 1]) {
+                        xs--;
+                        ys--;
+                        if (count[a[xs]] < regionCount) {
+                            regionCount = count[a[xs]];
+                        }
+                    }
+                    int xe = i + 1;
+                    int ye = j + 1;
+                    while (xe < aEnd && ye < bEnd && a[xe] == b[ye]) {
+                        if (count[a[xe]] < regionCount) {
+                            regionCount = count[a[xe]];
+                        }
+                        xe++;
+                        ye++;
+                    }
+                    if (nextY < ye) {
+                        nextY = ye;
+                    }
+                    if (xe - xs > bestLength || regionCount < bestCount) {
+                        bestX = xs;
+                        bestY = ys;
+                        bestLength = xe - xs;
+                        bestCount = regionCount;
+                    }
+                }
+            }
+
+            for (int i = a0; i < aEnd; i++) {
+                count[a[i]] = 0;
+            }
+
+            if (bestLength == 0) {
+                return super.lcs(a0, n, b0, m);
+            }
+            final int xe = bestX + bestLength;
+            final int ye = bestY + bestLength;
+            return LcsItemImpl.chain(
+                    lcsHeadTail(a0, bestX - a0, b0, bestY - b0),
+                    match(bestX, bestY, bestLength),
+                    lcsHeadTail(xe, aEnd - xe, ye, bEnd - ye));
+        }
+    }
+}
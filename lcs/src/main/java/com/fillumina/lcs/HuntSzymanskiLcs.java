@@ -0,0 +1,198 @@
+package com.fillumina.lcs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementation of the Hunt-Szymanski LCS algorithm. For each element of
+ * the first sequence the matching positions of the second one are taken
+ * from an occurrence index and used to update an array of thresholds
+ * (the smallest position where a common subsequence of a given length can
+ * end) with a binary search. It takes {@code O((r + n) log n)} time and
+ * {@code O(r + n)} space where {@code r} is the number of matching pairs
+ * so it is very fast when the sequences have few matches (i.e. big
+ * alphabets like unique record ids) and very slow otherwise (for small
+ * alphabets {@code r} gets close to {@code n*m}).
+ * <p>
+ * The sequences are interned before the calculation. This class is
+ * thread safe.
+ *
+ * @see <a href='http://www.cs.ucsb.edu/~suri/ccs130a/hunt-szymanski.pdf'>
+ *  A fast algorithm for computing longest common subsequences
+ *  (Hunt, Szymanski)
+ * </a>
+ * @author Francesco Illuminati
+ */
+public class HuntSzymanskiLcs implements Lcs {
+    public static final HuntSzymanskiLcs INSTANCE = new HuntSzymanskiLcs();
+
+    @Override
+    public <T> List<T> calculateLcs(T[] a, T[] b) {
+        final List<LcsItem> lcsItems = calculateLcsIndexes(a, b);
+        if (lcsItems == null) {
+            return Collections.<T>emptyList();
+        }
+        final List<T> result = new ArrayList<>(lcsItems.size());
+        for (LcsItem item : lcsItems) {
+            final int end = item.getFirstSequenceIndex() + item.getSteps();
+            for (int i = item.getFirstSequenceIndex(); i < end; i++) {
+                result.add(a[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
+        return createInner(false, a, b).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(Object[] a, Object[] b) {
+        return createInner(true, a, b).calculateLcsLength();
+    }
+
+    private static Inner createInner(boolean sizeOnly,
+            Object[] a, Object[] b) {
+        final Interner interner = new Interner(a == null ? 0 : a.length);
+        final int[] ia = a == null ? new int[0] : interner.intern(a);
+        final int[] ib = b == null ? new int[0] : interner.idsOf(b);
+        return new Inner(sizeOnly, ia, ib, interner.size());
+    }
+
+    private static class Inner extends AbstractLcsHeadTailReducer {
+        private final boolean sizeOnly;
+        private final int[] a, b;
+        private final int alphabetSize;
+
+        // the matches found: (x, y) and the index of the previous match
+        private int[] xs, ys, previous;
+        private int matches;
+
+        Inner(boolean sizeOnly, int[] a, int[] b, int alphabetSize) {
+            super(sizeOnly);
+            this.sizeOnly = sizeOnly;
+            this.a = a;
+            this.b = b;
+            this.alphabetSize = alphabetSize;
+        }
+
+        @Override
+        public boolean sameAtIndex(int x, int y) {
+            return a[x] == b[y];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b.length;
+        }
+
+        @Override
+        LcsItemImpl lcs(final int a0, final int n, final int b0, final int m) {
+            final int aEnd = a0 + n;
+            final int bEnd = b0 + m;
+
+            // occurrence index: the positions of each element in the
+            // second sequence linked from the last to the first one
+            final int[] last = new int[alphabetSize];
+            Arrays.fill(last, -1);
+            final int[] before = new int[m];
+            int id;
+            for (int y = b0; y < bEnd; y++) {
+                id = b[y];
+                if (id >= 0) {
+                    before[y - b0] = last[id];
+                    last[id] = y;
+                }
+            }
+
+            // thresholds[k] is the smallest y where a common subsequence
+            // of length k+1 ends, links[k] is the match ending there
+            final int[] thresholds = new int[n < m ? n : m];
+            final int[] links = sizeOnly ? null : new int[thresholds.length];
+            if (!sizeOnly) {
+                final int capacity = n + m;
+                xs = new int[capacity];
+                ys = new int[capacity];
+                previous = new int[capacity];
+                matches = 0;
+            }
+            int length = 0;
+            for (int x = a0; x < aEnd; x++) {
+                // decreasing positions so a match cannot extend another
+                // one of the same element of the first sequence
+                for (int y = last[a[x]]; y >= 0; y = before[y - b0]) {
+                    int lo = 0;
+                    int hi = length;
+                    while (lo < hi) {
+                        final int mid = (lo + hi) >>> 1;
+                        if (thresholds[mid] < y) {
+                            lo = mid + 1;
+                        } else {
+                            hi = mid;
+                        }
+                    }
+                    if (lo < length && thresholds[lo] == y) {
+                        continue;
+                    }
+                    thresholds[lo] = y;
+                    if (lo == length) {
+                        length++;
+                    }
+                    if (!sizeOnly) {
+                        links[lo] = addMatch(x, y,
+                                lo == 0 ? -1 : links[lo - 1]);
+                    }
+                }
+            }
+
+            if (length == 0) {
+                return null;
+            }
+            if (sizeOnly) {
+                return match(a0, b0, length);
+            }
+
+            // reads the matches backward joining the consecutive ones
+            final int[] path = new int[length];
+            for (int k = length - 1, node = links[length - 1]; k >= 0;
+                    k--, node = previous[node]) {
+                path[k] = node;
+            }
+            LcsItemImpl result = null;
+            int start = 0;
+            for (int k = 1; k <= length; k++) {
+                if (k == length ||
+                        xs[path[k]] != xs[path[k - 1]] + 1 ||
+                        ys[path[k]] != ys[path[k - 1]] + 1) {
+                    result = LcsItemImpl.chain(result,
+                            match(xs[path[start]], ys[path[start]],
+                                    k - start), null);
+                    start = k;
+                }
+            }
+            xs = ys = previous = null;
+            return result;
+        }
+
+        private int addMatch(int x, int y, int previousMatch) {
+            if (matches == xs.length) {
+                final int capacity = xs.length << 1;
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                previous = Arrays.copyOf(previous, capacity);
+            }
+            xs[matches] = x;
+            ys[matches] = y;
+            previous[matches] = previousMatch;
+            return matches++;
+        }
+    }
+}
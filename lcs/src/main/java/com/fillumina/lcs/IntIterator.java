@@ -0,0 +1,17 @@
+package com.fillumina.lcs;
+
+/**
+ * Iterator over primitive ints (avoids boxing each value).
+ *
+ * @author Francesco Illuminati
+ */
+public interface IntIterator {
+
+    boolean hasNext();
+
+    /**
+     * @return the next value.
+     * @throws java.util.NoSuchElementException if there are no more values
+     */
+    int nextInt();
+}
@@ -0,0 +1,80 @@
+package com.fillumina.lcs;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns a dense int id (starting from 0) to each distinct element so that
+ * equal elements (according to {@link Object#equals(java.lang.Object)})
+ * get the same id. {@code null} is a valid element.
+ * <p>
+ * Sequences of ids can be compared by the {@link PrimitiveLcs} algorithms
+ * much faster than the original objects because each comparison becomes a
+ * single int comparison instead of a call to {@code equals()}.
+ * This class is not thread safe.
+ *
+ * @author Francesco Illuminati
+ */
+public class Interner {
+    /** Returned by {@link #idOf(java.lang.Object)} for unknown elements. */
+    public static final int NOT_FOUND = -1;
+
+    private final Map<Object, Integer> ids;
+
+    public Interner() {
+        this.ids = new HashMap<>();
+    }
+
+    /** @param expectedSize the expected number of distinct elements. */
+    public Interner(int expectedSize) {
+        this.ids = new HashMap<>(expectedSize < 3 ? 4 : expectedSize * 4 / 3);
+    }
+
+    /** @return the id of the element, a new one if it's not known. */
+    public int intern(Object element) {
+        final Integer id = ids.get(element);
+        if (id != null) {
+            return id;
+        }
+        final int newId = ids.size();
+        ids.put(element, newId);
+        return newId;
+    }
+
+    /**
+     * @return the id of the element or {@link #NOT_FOUND} if it has never
+     *         been interned.
+     */
+    public int idOf(Object element) {
+        final Integer id = ids.get(element);
+        return id == null ? NOT_FOUND : id;
+    }
+
+    /** @return the ids of the elements of the sequence interning them. */
+    public int[] intern(Object[] sequence) {
+        final int[] result = new int[sequence.length];
+        for (int i = 0; i < sequence.length; i++) {
+            result[i] = intern(sequence[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @return the ids of the elements of the sequence without interning
+     *         them: unknown elements get {@link #NOT_FOUND}. Use it
+     *         on the second sequence to avoid filling the table with
+     *         elements that cannot match anyway.
+     */
+    public int[] idsOf(Object[] sequence) {
+        final int[] result = new int[sequence.length];
+        for (int i = 0; i < sequence.length; i++) {
+            result[i] = idOf(sequence[i]);
+        }
+        return result;
+    }
+
+    /** @return the number of distinct interned elements. */
+    public int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,79 @@
+package com.fillumina.lcs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Converts the sequences into arrays of int ids (equal elements get equal
+ * ids) before passing them to a {@link PrimitiveLcs} algorithm. The
+ * elements are hashed only once and the algorithm compares ints instead of
+ * calling {@link Object#equals(java.lang.Object)}: it's much faster when
+ * the comparison is expensive (i.e. long strings like lines of text) and
+ * the algorithm compares the same elements many times.
+ * <p>
+ * The elements of the second sequence not present in the first one are
+ * all assigned the same id (which doesn't match anything) so that only the
+ * elements of the first sequence are stored.
+ * The length of the LCS is calculated with a bit-parallel algorithm.
+ *
+ * @see Interner
+ * @author Francesco Illuminati
+ */
+public class InterningLcs implements Lcs {
+    public static final InterningLcs INSTANCE =
+            new InterningLcs(LinearSpaceMyersLcs.INSTANCE);
+
+    private final PrimitiveLcs lcs;
+
+    /** @param lcs the algorithm used on the interned sequences. */
+    public InterningLcs(PrimitiveLcs lcs) {
+        this.lcs = lcs;
+    }
+
+    @Override
+    public <T> List<T> calculateLcs(T[] a, T[] b) {
+        final List<LcsItem> lcsItems = calculateLcsIndexes(a, b);
+        if (lcsItems == null) {
+            return Collections.<T>emptyList();
+        }
+        final List<T> result = new ArrayList<>(lcsItems.size());
+        for (LcsItem item : lcsItems) {
+            final int end = item.getFirstSequenceIndex() + item.getSteps();
+            for (int i = item.getFirstSequenceIndex(); i < end; i++) {
+                result.add(a[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
+        final Interner interner = new Interner(length(a));
+        return lcs.calculateLcsIndexes(intern(interner, a),
+                lookup(interner, b));
+    }
+
+    /**
+     * The length is calculated by the bit-parallel algorithm which is
+     * much faster than any other on interned sequences.
+     */
+    @Override
+    public int calculateLcsLength(Object[] a, Object[] b) {
+        final Interner interner = new Interner(length(a));
+        return BitParallelLcsLength.lcsLengthOfIds(intern(interner, a),
+                lookup(interner, b), interner.size());
+    }
+
+    private static int length(Object[] array) {
+        return array == null ? 0 : array.length;
+    }
+
+    private static int[] intern(Interner interner, Object[] array) {
+        return array == null ? null : interner.intern(array);
+    }
+
+    private static int[] lookup(Interner interner, Object[] array) {
+        return array == null ? null : interner.idsOf(array);
+    }
+}
@@ -0,0 +1,169 @@
+package com.fillumina.lcs;
+
+/**
+ * Keeps the working buffers of the LCS algorithms between calls so that
+ * they are not allocated (and garbage collected) each time. The buffers
+ * grow as needed and, at the end of each calculation, they are trimmed so
+ * that no more than {@link #getMaxRetainedSize()} ints are kept.
+ * <p>
+ * This class is not thread safe: a pool (and the algorithm using it)
+ * must be confined to a single thread (i.e. using a {@link ThreadLocal}).
+ * <pre>
+ * LinearSpaceMyersLcs lcs = new LinearSpaceMyersLcs(new LcsBufferPool());
+ * </pre>
+ *
+ * @author Francesco Illuminati
+ */
+public class LcsBufferPool {
+    /** Default maximum number of ints retained (4 MB). */
+    public static final int DEFAULT_MAX_RETAINED_SIZE = 1 << 20;
+
+    static final int LINEAR_SPACE_MYERS = 0;
+    static final int MYERS = 1;
+    static final int HIRSCHBERG = 2;
+    static final int WAGNER_FISCHER = 3;
+    private static final int SLOTS = 4;
+
+    private final long maxRetainedSize;
+    private final int[][][] tables = new int[SLOTS][][];
+    private int[][] history;
+
+    public LcsBufferPool() {
+        this(DEFAULT_MAX_RETAINED_SIZE);
+    }
+
+    /**
+     * @param maxRetainedSize the maximum number of ints kept between
+     *                        calculations.
+     */
+    public LcsBufferPool(long maxRetainedSize) {
+        if (maxRetainedSize < 0) {
+            throw new IllegalArgumentException(
+                    "maxRetainedSize cannot be negative: " + maxRetainedSize);
+        }
+        this.maxRetainedSize = maxRetainedSize;
+    }
+
+    public long getMaxRetainedSize() {
+        return maxRetainedSize;
+    }
+
+    /** @return the number of ints currently retained. */
+    public long getRetainedSize() {
+        long size = 0;
+        for (int[][] table : tables) {
+            size += sizeOf(table);
+        }
+        if (history != null) {
+            size += history.length + sizeOf(history);
+        }
+        return size;
+    }
+
+    /** Releases all the buffers. */
+    public void reset() {
+        trim(0);
+    }
+
+    /** Releases the buffers exceeding the maximum retained size. */
+    public void trim() {
+        trim(maxRetainedSize);
+    }
+
+    /**
+     * Releases the buffers (starting from the biggest ones) until no more
+     * than the given number of ints are retained.
+     */
+    public void trim(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException(
+                    "maxSize cannot be negative: " + maxSize);
+        }
+        long size = getRetainedSize();
+        if (history != null) {
+            // the last rows are the longest ones
+            for (int i = history.length - 1; i >= 0 && size > maxSize; i--) {
+                if (history[i] != null) {
+                    size -= history[i].length;
+                    history[i] = null;
+                }
+            }
+            if (size > maxSize) {
+                size -= history.length;
+                history = null;
+            }
+        }
+        while (size > maxSize) {
+            int biggest = 0;
+            for (int i = 1; i < SLOTS; i++) {
+                if (sizeOf(tables[i]) > sizeOf(tables[biggest])) {
+                    biggest = i;
+                }
+            }
+            size -= sizeOf(tables[biggest]);
+            tables[biggest] = null;
+        }
+    }
+
+    /**
+     * @return a table reserved to the given algorithm with at least the
+     *         given number of rows all of the same length (at least
+     *         {@code length}). Its content is undefined.
+     */
+    int[][] getTable(int slot, int rows, int length) {
+        int[][] table = tables[slot];
+        if (table != null) {
+            if (table.length >= rows && table[0].length >= length) {
+                return table;
+            }
+            // grows on both dimensions so not to thrash on alternate sizes
+            rows = Math.max(rows, table.length);
+            length = Math.max(length, table[0].length);
+        }
+        table = new int[rows][length];
+        tables[slot] = table;
+        return table;
+    }
+
+    /**
+     * @return an array of at least {@code rows} rows to be retrieved with
+     *         {@link #getHistoryRow(int, int)}.
+     */
+    int[][] getHistory(int rows) {
+        if (history == null) {
+            history = new int[rows][];
+        } else if (history.length < rows) {
+            final int[][] tmp = new int[rows][];
+            System.arraycopy(history, 0, tmp, 0, history.length);
+            history = tmp;
+        }
+        return history;
+    }
+
+    /**
+     * @return the row at the given index of the array returned by
+     *         {@link #getHistory(int)} resized to be at least of the given
+     *         length. Its content is undefined.
+     */
+    int[] getHistoryRow(int index, int length) {
+        int[] row = history[index];
+        if (row == null || row.length < length) {
+            row = new int[length];
+            history[index] = row;
+        }
+        return row;
+    }
+
+    private static long sizeOf(int[][] table) {
+        if (table == null) {
+            return 0;
+        }
+        long size = 0;
+        for (int[] row : table) {
+            if (row != null) {
+                size += row.length;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,23 @@
+package com.fillumina.lcs;
+
+import java.io.IOException;
+
+/**
+ * Wraps an {@link IOException} thrown while reading a sequence where a
+ * checked exception cannot be thrown (i.e. by an {@link java.util.Iterator}).
+ *
+ * @see StreamingLcs#calculateLcsIndexes(java.io.Reader, java.io.Reader)
+ * @author Francesco Illuminati
+ */
+public class LcsIOException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public LcsIOException(IOException cause) {
+        super(cause);
+    }
+
+    @Override
+    public IOException getCause() {
+        return (IOException) super.getCause();
+    }
+}
@@ -0,0 +1,19 @@
+package com.fillumina.lcs;
+
+/**
+ * Receives the matches of an LCS in order (by increasing indexes).
+ *
+ * @see LcsMatches#accept(LcsMatchConsumer)
+ * @author Francesco Illuminati
+ */
+public interface LcsMatchConsumer {
+
+    /**
+     * Called for each sequence of consecutive equal elements.
+     *
+     * @param x     the index of the match in the first sequence
+     * @param y     the index of the match in the second sequence
+     * @param steps the number of equal elements
+     */
+    void onMatch(int x, int y, int steps);
+}
@@ -0,0 +1,237 @@
+package com.fillumina.lcs;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Compact representation of an LCS: the matches (sequences of consecutive
+ * equal elements) are kept ordered into a single {@code int} array as
+ * triples of first sequence index, second sequence index and steps.
+ * Differently from the list of {@link LcsItem}s it allows random access to
+ * the matches and it doesn't need to box the indexes.
+ * <p>
+ * It's produced directly by the algorithms (without creating any
+ * {@link LcsItem}) or it can be created from a list of {@link LcsItem}s
+ * with {@link #of(java.util.List)}.
+ *
+ * @author Francesco Illuminati
+ */
+public class LcsMatches {
+    private static final int[] EMPTY = new int[0];
+
+    private int[] data;
+    private int size;
+    private int lcsLength;
+
+    LcsMatches() {
+        this.data = EMPTY;
+    }
+
+    /** @return the matches of the given LCS (can be {@code null}). */
+    public static LcsMatches of(List<LcsItem> lcsItems) {
+        final LcsMatches matches = new LcsMatches();
+        if (lcsItems != null) {
+            for (LcsItem item : lcsItems) {
+                if (item.getSteps() == 0) {
+                    continue;
+                }
+                matches.add(item.getFirstSequenceIndex(),
+                        item.getSecondSequenceIndex(), item.getSteps());
+            }
+        }
+        matches.sort();
+        return matches;
+    }
+
+    /** Matches can be added in any order (see {@link #sort()}). */
+    void add(int x, int y, int steps) {
+        final int index = size * 3;
+        if (index == data.length) {
+            data = Arrays.copyOf(data, data.length == 0 ? 24 : index << 1);
+        }
+        data[index] = x;
+        data[index + 1] = y;
+        data[index + 2] = steps;
+        size++;
+        lcsLength += steps;
+    }
+
+    /**
+     * Orders the matches (which never cross each other) by their index in
+     * the first sequence and joins the contiguous ones.
+     */
+    void sort() {
+        boolean sorted = true;
+        for (int i = 1; i < size && sorted; i++) {
+            sorted = data[(i - 1) * 3] < data[i * 3];
+        }
+        if (!sorted) {
+            final long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((long) data[i * 3] << 32) | i;
+            }
+            Arrays.sort(keys);
+            final int[] sortedData = new int[size * 3];
+            for (int i = 0; i < size; i++) {
+                System.arraycopy(data, ((int) keys[i]) * 3,
+                        sortedData, i * 3, 3);
+            }
+            data = sortedData;
+        }
+        int last = 0;
+        for (int i = 1; i < size; i++) {
+            final int l = last * 3;
+            final int index = i * 3;
+            if (data[l] + data[l + 2] == data[index] &&
+                    data[l + 1] + data[l + 2] == data[index + 1]) {
+                data[l + 2] += data[index + 2];
+            } else {
+                last++;
+                System.arraycopy(data, index, data, last * 3, 3);
+            }
+        }
+        if (size > 0) {
+            size = last + 1;
+        }
+    }
+
+    /** @return the number of matches. */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** @return the number of elements of the LCS. */
+    public int getLcsLength() {
+        return lcsLength;
+    }
+
+    /** @return the index in the first sequence where the match starts. */
+    public int getFirstSequenceIndex(int match) {
+        checkIndex(match);
+        return data[match * 3];
+    }
+
+    /** @return the index in the second sequence where the match starts. */
+    public int getSecondSequenceIndex(int match) {
+        checkIndex(match);
+        return data[match * 3 + 1];
+    }
+
+    /** @return the number of equal elements of the match. */
+    public int getSteps(int match) {
+        checkIndex(match);
+        return data[match * 3 + 2];
+    }
+
+    private void checkIndex(int match) {
+        if (match < 0 || match >= size) {
+            throw new IndexOutOfBoundsException(
+                    "match: " + match + ", size: " + size);
+        }
+    }
+
+    /** Passes the matches in order to the given consumer. */
+    public void accept(LcsMatchConsumer consumer) {
+        for (int m = 0; m < size; m++) {
+            final int index = m * 3;
+            consumer.onMatch(data[index], data[index + 1], data[index + 2]);
+        }
+    }
+
+    /**
+     * Passes in order the matches and the elements between them to the
+     * given visitor.
+     *
+     * @param firstSequenceLength  to visit the elements after the last
+     *                             match
+     * @param secondSequenceLength to visit the elements after the last
+     *                             match
+     */
+    public void accept(LcsVisitor visitor, int firstSequenceLength,
+            int secondSequenceLength) {
+        final LcsVisitorAdaptor adaptor = new LcsVisitorAdaptor(visitor);
+        accept(adaptor);
+        adaptor.end(firstSequenceLength, secondSequenceLength);
+    }
+
+    /** @return the indexes of the LCS elements in the first sequence. */
+    public int[] toFirstSequenceIndexes() {
+        return toIndexes(0);
+    }
+
+    /** @return the indexes of the LCS elements in the second sequence. */
+    public int[] toSecondSequenceIndexes() {
+        return toIndexes(1);
+    }
+
+    private int[] toIndexes(int offset) {
+        final int[] indexes = new int[lcsLength];
+        int i = 0;
+        for (int m = 0; m < size; m++) {
+            final int start = data[m * 3 + offset];
+            final int end = start + data[m * 3 + 2];
+            for (int index = start; index < end; index++) {
+                indexes[i++] = index;
+            }
+        }
+        return indexes;
+    }
+
+    /** @return the indexes of the LCS elements in the first sequence. */
+    public IntIterator firstSequenceIndexes() {
+        return new IndexIterator(0);
+    }
+
+    /** @return the indexes of the LCS elements in the second sequence. */
+    public IntIterator secondSequenceIndexes() {
+        return new IndexIterator(1);
+    }
+
+    private class IndexIterator implements IntIterator {
+        private final int offset;
+        private int match = -1;
+        private int index;
+        private int end;
+
+        IndexIterator(int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < end || match + 1 < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (index == end) {
+                if (match + 1 >= size) {
+                    throw new NoSuchElementException();
+                }
+                match++;
+                index = data[match * 3 + offset];
+                end = index + data[match * 3 + 2];
+            }
+            return index++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("LcsMatches{");
+        for (int m = 0; m < size; m++) {
+            if (m > 0) {
+                buf.append(", ");
+            }
+            buf.append('(').append(data[m * 3])
+                    .append(',').append(data[m * 3 + 1])
+                    .append(")x").append(data[m * 3 + 2]);
+        }
+        return buf.append('}').toString();
+    }
+}
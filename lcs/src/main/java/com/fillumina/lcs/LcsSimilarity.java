@@ -0,0 +1,87 @@
+package com.fillumina.lcs;
+
+/**
+ * Scores the similarity of two strings as the ratio between the elements
+ * in their LCS and their total length: {@code 2 * lcs / (n + m)} that goes
+ * from 0 (nothing in common) to 1 (equal strings).
+ * <p>
+ * {@link #similarityAtLeast(CharSequence, CharSequence, double)} is meant
+ * to filter many pairs (i.e. in a matching pipeline): it first checks some
+ * cheap upper bounds of the LCS (the shorter length and the
+ * {@link SimilarityBounds}) and only if they cannot reject the pair it
+ * runs {@link MyersLcs} with an edit
+ * distance budget so that it stops as soon as the threshold cannot be
+ * reached.
+ *
+ * @author Francesco Illuminati
+ */
+public class LcsSimilarity {
+    private LcsSimilarity() {}
+
+    /** @return the similarity in [0, 1] (two empty strings are equal). */
+    public static double similarity(CharSequence a, CharSequence b) {
+        final int n = a == null ? 0 : a.length();
+        final int m = b == null ? 0 : b.length();
+        if (n + m == 0) {
+            return 1;
+        }
+        return ratio(BitParallelLcs.INSTANCE.calculateLcsLength(a, b), n, m);
+    }
+
+    /**
+     * @return {@code true} if
+     *         {@code similarity(a, b) >= threshold} (it's faster).
+     */
+    public static boolean similarityAtLeast(CharSequence a, CharSequence b,
+            double threshold) {
+        final CharSequence sa = a == null ? "" : a;
+        final CharSequence sb = b == null ? "" : b;
+        final int n = sa.length();
+        final int m = sb.length();
+        if (n + m == 0) {
+            return 1 >= threshold;
+        }
+        final int min = n < m ? n : m;
+        if (ratio(min, n, m) < threshold) {
+            return false;
+        }
+
+        final SimilarityBounds bounds = new SimilarityBounds(sa, sb);
+        if (ratio(bounds.getMaxLcsLength(), n, m) < threshold) {
+            return false;
+        }
+
+        // the minimum LCS length reaching the threshold
+        int needed = (int) Math.ceil(threshold * (n + m) / 2);
+        if (needed < 0) {
+            needed = 0;
+        }
+        while (needed > 0 && ratio(needed - 1, n, m) >= threshold) {
+            needed--;
+        }
+        while (ratio(needed, n, m) < threshold) {
+            needed++;
+        }
+
+        // equal heads and tails are in the LCS
+        final int head = bounds.getHead();
+        final int tail = bounds.getTail();
+        final int neededMiddle = needed - head - tail;
+        if (neededMiddle <= 0) {
+            return true;
+        }
+        final int maxEditDistance = n + m - 2 * needed;
+        try {
+            new MyersLcs(null, maxEditDistance).calculateEditDistance(
+                    sa.subSequence(head, n - tail),
+                    sb.subSequence(head, m - tail));
+            return true;
+        } catch (EditDistanceExceededException ex) {
+            return false;
+        }
+    }
+
+    private static double ratio(int lcs, int n, int m) {
+        return 2.0 * lcs / (n + m);
+    }
+}
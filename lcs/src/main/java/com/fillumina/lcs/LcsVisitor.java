@@ -0,0 +1,29 @@
+package com.fillumina.lcs;
+
+/**
+ * Receives in order the matches of an LCS and the elements between them
+ * (the edit script to transform the first sequence into the second). In
+ * each gap between matches the deleted elements are passed before the
+ * inserted ones.
+ *
+ * @see LcsMatches#accept(LcsVisitor, int, int)
+ * @author Francesco Illuminati
+ */
+public interface LcsVisitor extends LcsMatchConsumer {
+
+    /**
+     * Elements of the first sequence not in the LCS.
+     *
+     * @param x     the index of the first element in the first sequence
+     * @param steps the number of elements
+     */
+    void onDelete(int x, int steps);
+
+    /**
+     * Elements of the second sequence not in the LCS.
+     *
+     * @param y     the index of the first element in the second sequence
+     * @param steps the number of elements
+     */
+    void onInsert(int y, int steps);
+}
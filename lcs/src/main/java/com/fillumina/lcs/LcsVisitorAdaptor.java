@@ -0,0 +1,58 @@
+package com.fillumina.lcs;
+
+/**
+ * Passes the matches, received in order, to an {@link LcsVisitor} along
+ * with the elements between them. Contiguous matches are joined.
+ *
+ * @author Francesco Illuminati
+ */
+class LcsVisitorAdaptor implements LcsMatchConsumer {
+    private final LcsVisitor visitor;
+    // the match not yet passed to the visitor
+    private int mx, my, steps;
+    // the indexes following the last visited match
+    private int x, y;
+
+    LcsVisitorAdaptor(LcsVisitor visitor) {
+        this.visitor = visitor;
+    }
+
+    @Override
+    public void onMatch(int x, int y, int steps) {
+        if (this.steps > 0 && mx + this.steps == x && my + this.steps == y) {
+            this.steps += steps;
+            return;
+        }
+        flush();
+        this.mx = x;
+        this.my = y;
+        this.steps = steps;
+    }
+
+    /** Visits the last match and the elements after it. */
+    void end(int firstSequenceLength, int secondSequenceLength) {
+        flush();
+        if (firstSequenceLength > x) {
+            visitor.onDelete(x, firstSequenceLength - x);
+        }
+        if (secondSequenceLength > y) {
+            visitor.onInsert(y, secondSequenceLength - y);
+        }
+    }
+
+    private void flush() {
+        if (steps == 0) {
+            return;
+        }
+        if (mx > x) {
+            visitor.onDelete(x, mx - x);
+        }
+        if (my > y) {
+            visitor.onInsert(y, my - y);
+        }
+        visitor.onMatch(mx, my, steps);
+        x = mx + steps;
+        y = my + steps;
+        steps = 0;
+    }
+}
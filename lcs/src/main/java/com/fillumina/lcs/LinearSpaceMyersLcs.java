@@ -4,13 +4,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Implementation of the Linear Space Myers LCS algorithm. It is fast
  * and memory efficient (O(n)).
  * <p>
- * Note that if you need to process a primitive array it is more efficient
- * to implement the {@link AbstractLinearSpaceMyersLcs} template.
+ * Arrays of primitives are compared directly by the {@link PrimitiveLcs}
+ * methods. To process other kind of sequences (i.e. lists) it is more
+ * efficient to implement the {@link AbstractLinearSpaceMyersLcs} template.
  *
  * @see AbstractLinearSpaceMyersLcs
  * @see <a href='www.xmailserver.org/diff2.pdf'>
@@ -18,28 +20,213 @@ import java.util.List;
  * </a>
  * @author Francesco Illuminati
  */
-public class LinearSpaceMyersLcs implements Lcs {
+public class LinearSpaceMyersLcs implements Lcs, PrimitiveLcs {
     public static final LinearSpaceMyersLcs INSTANCE =
             new LinearSpaceMyersLcs();
 
+    private final LcsBufferPool pool;
+    private final int maxEditDistance;
+    private final int costLimit;
+
+    public LinearSpaceMyersLcs() {
+        this(null);
+    }
+
+    /**
+     * Keeps the working buffers between calls into the given pool. The
+     * pool is not thread safe and so it is the returned instance.
+     */
+    public LinearSpaceMyersLcs(LcsBufferPool pool) {
+        this(pool, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param pool  keeps the working buffers between calls (the returned
+     *              instance is not thread safe), can be {@code null}.
+     * @param maxEditDistance the calculation is aborted with an
+     *              {@link EditDistanceExceededException} if the edit
+     *              distance of the sequences is greater than this: it puts
+     *              a limit to the time spent on very different sequences.
+     */
+    public LinearSpaceMyersLcs(LcsBufferPool pool, int maxEditDistance) {
+        this(pool, maxEditDistance, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Heuristic mode for huge sequences: the search of each middle snake
+     * is stopped after {@code costLimit} steps and the sequences are split
+     * at the furthest reaching point found so far. The time is then about
+     * {@code O((n+m)*costLimit)} per recursion level but the returned LCS
+     * may not be the longest.
+     *
+     * @param pool  keeps the working buffers between calls (the returned
+     *              instance is not thread safe), can be {@code null}.
+     * @param maxEditDistance the calculation is aborted with an
+     *              {@link EditDistanceExceededException} if the edit
+     *              distance of the sequences is greater than this.
+     * @param costLimit the maximum number of steps in the search of a
+     *              middle snake (must be positive).
+     */
+    public LinearSpaceMyersLcs(LcsBufferPool pool, int maxEditDistance,
+            int costLimit) {
+        if (costLimit < 1) {
+            throw new IllegalArgumentException(
+                    "costLimit must be positive: " + costLimit);
+        }
+        this.pool = pool;
+        this.maxEditDistance = maxEditDistance;
+        this.costLimit = costLimit;
+    }
+
     @Override
     public <T> List<T> calculateLcs(T[] a, T[] b) {
-        final Inner<T> inner = new Inner<>(false, a, b);
+        final Inner<T> inner = new Inner<>(false, a, b, pool,
+                maxEditDistance, costLimit);
         List<LcsItem> lcs = inner.calculateLcs();
         return inner.extractLcsList(lcs);
     }
 
     @Override
     public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
-        return new Inner<>(false, a, b).calculateLcs();
+        return new Inner<>(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs();
     }
 
     @Override
     public int calculateLcsLength(Object[] a, Object[] b) {
-        return new Inner<>(true, a, b).calculateLcsLength();
+        return new Inner<>(true, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsLength();
+    }
+
+    @Override
+    public int[] calculateLcs(int[] a, int[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new IntInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(int[] a, int[] b) {
+        return new IntInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(int[] a, int[] b) {
+        return new IntInner(true, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsLength();
+    }
+
+    @Override
+    public long[] calculateLcs(long[] a, long[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new LongInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(long[] a, long[] b) {
+        return new LongInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(long[] a, long[] b) {
+        return new LongInner(true, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsLength();
+    }
+
+    @Override
+    public char[] calculateLcs(char[] a, char[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new CharInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(char[] a, char[] b) {
+        return new CharInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(char[] a, char[] b) {
+        return new CharInner(true, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsLength();
+    }
+
+    @Override
+    public byte[] calculateLcs(byte[] a, byte[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new ByteInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(byte[] a, byte[] b) {
+        return new ByteInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(byte[] a, byte[] b) {
+        return new ByteInner(true, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsLength();
+    }
+
+    @Override
+    public String calculateLcs(CharSequence a, CharSequence b) {
+        return new String(calculateLcs(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b)));
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(CharSequence a, CharSequence b) {
+        return calculateLcsIndexes(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    @Override
+    public int calculateLcsLength(CharSequence a, CharSequence b) {
+        return calculateLcsLength(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    /**
+     * @return the LCS as a compact {@link LcsMatches} (no {@link LcsItem}
+     *         is created).
+     */
+    public LcsMatches calculateLcsMatches(Object[] a, Object[] b) {
+        return new Inner<>(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsMatches();
     }
 
-    private static class Inner<T> extends AbstractLinearSpaceMyersLcs {
+    public LcsMatches calculateLcsMatches(int[] a, int[] b) {
+        return new IntInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(long[] a, long[] b) {
+        return new LongInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(char[] a, char[] b) {
+        return new CharInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(byte[] a, byte[] b) {
+        return new ByteInner(false, a, b, pool,
+                maxEditDistance, costLimit).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(CharSequence a, CharSequence b) {
+        return calculateLcsMatches(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    static class Inner<T> extends AbstractLinearSpaceMyersLcs {
         private final T[] a, b;
 
         /**
@@ -54,12 +241,22 @@ public class LinearSpaceMyersLcs implements Lcs {
         public Inner(boolean sizeOnly,
                 final Collection<? extends T> a,
                 final Collection<? extends T> b) {
-            this(sizeOnly, a.toArray(), b.toArray());
+            this(sizeOnly, a.toArray(), b.toArray(), null, Integer.MAX_VALUE,
+                    Integer.MAX_VALUE);
         }
 
         @SuppressWarnings("unchecked")
-        public Inner(boolean sizeOnly, final Object[] a, final Object[] b) {
-            super(sizeOnly);
+        public Inner(boolean sizeOnly, final Object[] a, final Object[] b,
+                LcsBufferPool pool, int maxEditDistance, int costLimit) {
+            super(sizeOnly, pool, maxEditDistance, costLimit);
+            this.a = (T[]) a;
+            this.b = (T[]) b;
+        }
+
+        @SuppressWarnings("unchecked")
+        Inner(final Object[] a, final Object[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
             this.a = (T[]) a;
             this.b = (T[]) b;
         }
@@ -93,4 +290,136 @@ public class LinearSpaceMyersLcs implements Lcs {
             return b == null ? 0 : b.length;
         }
     }
+
+    static class IntInner extends AbstractLinearSpaceMyersLcs {
+        private final int[] a, b;
+
+        public IntInner(boolean sizeOnly, final int[] a, final int[] b,
+                LcsBufferPool pool, int maxEditDistance, int costLimit) {
+            super(sizeOnly, pool, maxEditDistance, costLimit);
+            this.a = a;
+            this.b = b;
+        }
+
+        IntInner(final int[] a, final int[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    static class LongInner extends AbstractLinearSpaceMyersLcs {
+        private final long[] a, b;
+
+        public LongInner(boolean sizeOnly, final long[] a, final long[] b,
+                LcsBufferPool pool, int maxEditDistance, int costLimit) {
+            super(sizeOnly, pool, maxEditDistance, costLimit);
+            this.a = a;
+            this.b = b;
+        }
+
+        LongInner(final long[] a, final long[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    static class CharInner extends AbstractLinearSpaceMyersLcs {
+        private final char[] a, b;
+
+        public CharInner(boolean sizeOnly, final char[] a, final char[] b,
+                LcsBufferPool pool, int maxEditDistance, int costLimit) {
+            super(sizeOnly, pool, maxEditDistance, costLimit);
+            this.a = a;
+            this.b = b;
+        }
+
+        CharInner(final char[] a, final char[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    static class ByteInner extends AbstractLinearSpaceMyersLcs {
+        private final byte[] a, b;
+
+        public ByteInner(boolean sizeOnly, final byte[] a, final byte[] b,
+                LcsBufferPool pool, int maxEditDistance, int costLimit) {
+            super(sizeOnly, pool, maxEditDistance, costLimit);
+            this.a = a;
+            this.b = b;
+        }
+
+        ByteInner(final byte[] a, final byte[] b,
+                ForkJoinPool forkJoinPool, int parallelThreshold) {
+            super(forkJoinPool, parallelThreshold);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
 }
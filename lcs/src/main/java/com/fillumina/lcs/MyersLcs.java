@@ -17,25 +17,218 @@ import java.util.List;
  * </a>
  * @author Francesco Illuminati
  */
-public class MyersLcs implements Lcs {
+public class MyersLcs implements Lcs, PrimitiveLcs {
     public static final MyersLcs INSTANCE =
             new MyersLcs();
 
+    private final LcsBufferPool pool;
+    private final int maxEditDistance;
+
+    public MyersLcs() {
+        this(null);
+    }
+
+    /**
+     * Keeps the working buffers between calls into the given pool. The
+     * pool is not thread safe and so it is the returned instance.
+     */
+    public MyersLcs(LcsBufferPool pool) {
+        this(pool, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param pool  keeps the working buffers between calls (the returned
+     *              instance is not thread safe), can be {@code null}.
+     * @param maxEditDistance the calculation is aborted with an
+     *              {@link EditDistanceExceededException} if the edit
+     *              distance of the sequences is greater than this: it puts
+     *              a limit to the time spent on very different sequences.
+     */
+    public MyersLcs(LcsBufferPool pool, int maxEditDistance) {
+        this.pool = pool;
+        this.maxEditDistance = maxEditDistance;
+    }
+
     @Override
     public <T> List<T> calculateLcs(T[] a, T[] b) {
-        final Inner<T> inner = new Inner<>(false, a, b);
+        final Inner<T> inner = new Inner<>(false, a, b, pool,
+                maxEditDistance);
         List<LcsItem> lcs = inner.calculateLcs();
         return inner.extractLcsList(lcs);
     }
 
     @Override
     public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
-        return new Inner<>(false, a, b).calculateLcs();
+        return new Inner<>(false, a, b, pool,
+                maxEditDistance).calculateLcs();
     }
 
     @Override
     public int calculateLcsLength(Object[] a, Object[] b) {
-        return new Inner<>(true, a, b).calculateLcsLength();
+        return new Inner<>(true, a, b, pool,
+                maxEditDistance).calculateLcsLength();
+    }
+
+    @Override
+    public int[] calculateLcs(int[] a, int[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new IntInner(false, a, b, pool,
+                maxEditDistance).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(int[] a, int[] b) {
+        return new IntInner(false, a, b, pool,
+                maxEditDistance).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(int[] a, int[] b) {
+        return new IntInner(true, a, b, pool,
+                maxEditDistance).calculateLcsLength();
+    }
+
+    @Override
+    public long[] calculateLcs(long[] a, long[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new LongInner(false, a, b, pool,
+                maxEditDistance).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(long[] a, long[] b) {
+        return new LongInner(false, a, b, pool,
+                maxEditDistance).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(long[] a, long[] b) {
+        return new LongInner(true, a, b, pool,
+                maxEditDistance).calculateLcsLength();
+    }
+
+    @Override
+    public char[] calculateLcs(char[] a, char[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new CharInner(false, a, b, pool,
+                maxEditDistance).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(char[] a, char[] b) {
+        return new CharInner(false, a, b, pool,
+                maxEditDistance).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(char[] a, char[] b) {
+        return new CharInner(true, a, b, pool,
+                maxEditDistance).calculateLcsLength();
+    }
+
+    @Override
+    public byte[] calculateLcs(byte[] a, byte[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new ByteInner(false, a, b, pool,
+                maxEditDistance).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(byte[] a, byte[] b) {
+        return new ByteInner(false, a, b, pool,
+                maxEditDistance).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(byte[] a, byte[] b) {
+        return new ByteInner(true, a, b, pool,
+                maxEditDistance).calculateLcsLength();
+    }
+
+    @Override
+    public String calculateLcs(CharSequence a, CharSequence b) {
+        return new String(calculateLcs(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b)));
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(CharSequence a, CharSequence b) {
+        return calculateLcsIndexes(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    @Override
+    public int calculateLcsLength(CharSequence a, CharSequence b) {
+        return calculateLcsLength(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    /**
+     * @return the LCS as a compact {@link LcsMatches} (no {@link LcsItem}
+     *         is created).
+     */
+    public LcsMatches calculateLcsMatches(Object[] a, Object[] b) {
+        return new Inner<>(false, a, b, pool,
+                maxEditDistance).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(int[] a, int[] b) {
+        return new IntInner(false, a, b, pool,
+                maxEditDistance).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(long[] a, long[] b) {
+        return new LongInner(false, a, b, pool,
+                maxEditDistance).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(char[] a, char[] b) {
+        return new CharInner(false, a, b, pool,
+                maxEditDistance).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(byte[] a, byte[] b) {
+        return new ByteInner(false, a, b, pool,
+                maxEditDistance).calculateLcsMatches();
+    }
+
+    public LcsMatches calculateLcsMatches(CharSequence a, CharSequence b) {
+        return calculateLcsMatches(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    /**
+     * @return the edit distance (number of elements not in the LCS)
+     *         calculated in linear space without building the LCS.
+     */
+    public int calculateEditDistance(Object[] a, Object[] b) {
+        return new Inner<>(true, a, b, pool,
+                maxEditDistance).calculateEditDistance();
+    }
+
+    public int calculateEditDistance(int[] a, int[] b) {
+        return new IntInner(true, a, b, pool,
+                maxEditDistance).calculateEditDistance();
+    }
+
+    public int calculateEditDistance(long[] a, long[] b) {
+        return new LongInner(true, a, b, pool,
+                maxEditDistance).calculateEditDistance();
+    }
+
+    public int calculateEditDistance(char[] a, char[] b) {
+        return new CharInner(true, a, b, pool,
+                maxEditDistance).calculateEditDistance();
+    }
+
+    public int calculateEditDistance(byte[] a, byte[] b) {
+        return new ByteInner(true, a, b, pool,
+                maxEditDistance).calculateEditDistance();
+    }
+
+    public int calculateEditDistance(CharSequence a, CharSequence b) {
+        return calculateEditDistance(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
     }
 
     private static class Inner<T> extends AbstractMyersLcs {
@@ -53,12 +246,13 @@ public class MyersLcs implements Lcs {
         public Inner(boolean sizeOnly,
                 final Collection<? extends T> a,
                 final Collection<? extends T> b) {
-            this(sizeOnly, a.toArray(), b.toArray());
+            this(sizeOnly, a.toArray(), b.toArray(), null, Integer.MAX_VALUE);
         }
 
         @SuppressWarnings("unchecked")
-        public Inner(boolean sizeOnly, final Object[] a, final Object[] b) {
-            super(sizeOnly);
+        public Inner(boolean sizeOnly, final Object[] a, final Object[] b,
+                LcsBufferPool pool, int maxEditDistance) {
+            super(sizeOnly, pool, maxEditDistance);
             this.a = (T[]) a;
             this.b = (T[]) b;
         }
@@ -92,4 +286,108 @@ public class MyersLcs implements Lcs {
             return b == null ? 0 : b.length;
         }
     }
+
+    private static class IntInner extends AbstractMyersLcs {
+        private final int[] a, b;
+
+        public IntInner(boolean sizeOnly, final int[] a, final int[] b,
+                LcsBufferPool pool, int maxEditDistance) {
+            super(sizeOnly, pool, maxEditDistance);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    private static class LongInner extends AbstractMyersLcs {
+        private final long[] a, b;
+
+        public LongInner(boolean sizeOnly, final long[] a, final long[] b,
+                LcsBufferPool pool, int maxEditDistance) {
+            super(sizeOnly, pool, maxEditDistance);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    private static class CharInner extends AbstractMyersLcs {
+        private final char[] a, b;
+
+        public CharInner(boolean sizeOnly, final char[] a, final char[] b,
+                LcsBufferPool pool, int maxEditDistance) {
+            super(sizeOnly, pool, maxEditDistance);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    private static class ByteInner extends AbstractMyersLcs {
+        private final byte[] a, b;
+
+        public ByteInner(boolean sizeOnly, final byte[] a, final byte[] b,
+                LcsBufferPool pool, int maxEditDistance) {
+            super(sizeOnly, pool, maxEditDistance);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
 }
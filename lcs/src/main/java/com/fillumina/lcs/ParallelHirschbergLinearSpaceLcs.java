@@ -0,0 +1,165 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.HirschbergLinearSpaceLcs.ByteInner;
+import com.fillumina.lcs.HirschbergLinearSpaceLcs.CharInner;
+import com.fillumina.lcs.HirschbergLinearSpaceLcs.Inner;
+import com.fillumina.lcs.HirschbergLinearSpaceLcs.IntInner;
+import com.fillumina.lcs.HirschbergLinearSpaceLcs.LongInner;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel version of {@link HirschbergLinearSpaceLcs}: the forward and
+ * reverse score passes of each bisection are calculated concurrently and so
+ * are the two resulting halves if they are bigger than a threshold.
+ * It is useful for very long and mostly different sequences on multi-core
+ * machines, for shorter ones the sequential version is faster.
+ * This class is thread safe.
+ *
+ * @see AbstractHirschbergLinearSpaceLcs
+ * @author Francesco Illuminati
+ */
+public class ParallelHirschbergLinearSpaceLcs implements Lcs, PrimitiveLcs {
+    public static final ParallelHirschbergLinearSpaceLcs INSTANCE =
+            new ParallelHirschbergLinearSpaceLcs();
+
+    /** Minimum size ({@code n + m}) of a problem to split its work. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 12;
+
+    private final ForkJoinPool forkJoinPool;
+    private final int parallelThreshold;
+
+    /** Uses a shared fork/join pool with as many threads as processors. */
+    public ParallelHirschbergLinearSpaceLcs() {
+        this(DefaultForkJoinPool.INSTANCE, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param forkJoinPool  executes the tasks
+     * @param parallelThreshold the minimum size ({@code n + m}) of a
+     *                      problem to calculate its score passes
+     *                      concurrently and of both its halves to fork them
+     */
+    public ParallelHirschbergLinearSpaceLcs(ForkJoinPool forkJoinPool,
+            int parallelThreshold) {
+        if (forkJoinPool == null) {
+            throw new NullPointerException("forkJoinPool cannot be null");
+        }
+        this.forkJoinPool = forkJoinPool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public <T> List<T> calculateLcs(T[] a, T[] b) {
+        final Inner<T> inner = new Inner<>(a, b,
+                forkJoinPool, parallelThreshold);
+        List<LcsItem> lcs = inner.calculateLcs();
+        return inner.extractLcsList(lcs);
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
+        return new Inner<>(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(Object[] a, Object[] b) {
+        return new Inner<>(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcsLength();
+    }
+
+    @Override
+    public int[] calculateLcs(int[] a, int[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new IntInner(a, b, forkJoinPool, parallelThreshold)
+                        .calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(int[] a, int[] b) {
+        return new IntInner(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(int[] a, int[] b) {
+        return new IntInner(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcsLength();
+    }
+
+    @Override
+    public long[] calculateLcs(long[] a, long[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new LongInner(a, b, forkJoinPool, parallelThreshold)
+                        .calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(long[] a, long[] b) {
+        return new LongInner(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(long[] a, long[] b) {
+        return new LongInner(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcsLength();
+    }
+
+    @Override
+    public char[] calculateLcs(char[] a, char[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new CharInner(a, b, forkJoinPool, parallelThreshold)
+                        .calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(char[] a, char[] b) {
+        return new CharInner(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(char[] a, char[] b) {
+        return new CharInner(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcsLength();
+    }
+
+    @Override
+    public byte[] calculateLcs(byte[] a, byte[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new ByteInner(a, b, forkJoinPool, parallelThreshold)
+                        .calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(byte[] a, byte[] b) {
+        return new ByteInner(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(byte[] a, byte[] b) {
+        return new ByteInner(a, b, forkJoinPool, parallelThreshold)
+                .calculateLcsLength();
+    }
+
+    @Override
+    public String calculateLcs(CharSequence a, CharSequence b) {
+        return new String(calculateLcs(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b)));
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(CharSequence a, CharSequence b) {
+        return calculateLcsIndexes(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    @Override
+    public int calculateLcsLength(CharSequence a, CharSequence b) {
+        return calculateLcsLength(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+}
@@ -0,0 +1,127 @@
+package com.fillumina.lcs;
+
+/**
+ * Patience diff: the elements appearing exactly once in both sequences are
+ * matched and the longest increasing subsequence of those matches (found
+ * by patience sorting) is used to split the sequences. The parts between
+ * the anchors are processed the same way (elements may become unique in a
+ * smaller part) and when no unique element is left the linear space Myers
+ * algorithm is used. It is mostly useful to diff source code where unique
+ * lines (i.e. function signatures) are the best anchors.
+ * <p>
+ * The returned LCS is not always the longest. This class is thread safe.
+ *
+ * @see <a href='https://bramcohen.livejournal.com/73318.html'>
+ *  Patience Diff Advantages (Bram Cohen)
+ * </a>
+ * @author Francesco Illuminati
+ */
+public class PatienceLcs extends AbstractAnchoredLcs {
+    public static final PatienceLcs INSTANCE = new PatienceLcs();
+
+    @Override
+    IdsLinearSpaceMyersLcs createEngine(boolean sizeOnly,
+            int[] a, int[] b, int alphabetSize) {
+        return new Engine(sizeOnly, a, b, alphabetSize);
+    }
+
+    private static class Engine extends IdsLinearSpaceMyersLcs {
+        // indexed by id, they are cleared after each use
+        private final int[] countA, countB, positionA;
+
+        Engine(boolean sizeOnly, int[] a, int[] b, int alphabetSize) {
+            super(sizeOnly, a, b);
+            this.countA = new int[alphabetSize];
+            this.countB = new int[alphabetSize];
+            this.positionA = new int[alphabetSize];
+        }
+
+        @Override
+        LcsItemImpl lcs(final int a0, final int n, final int b0, final int m) {
+            final int aEnd = a0 + n;
+            final int bEnd = b0 + m;
+            int id;
+            for (int i = a0; i < aEnd; i++) {
+                id = a[i];
+                countA[id]++;
+                positionA[id] = i;
+            }
+            for (int j = b0; j < bEnd; j++) {
+                id = b[j];
+                if (id >= 0) {
+                    countB[id]++;
+                }
+            }
+
+            // matches of the unique elements ordered by the second sequence
+            final int[] xs = new int[n < m ? n : m];
+            final int[] ys = new int[xs.length];
+            int size = 0;
+            for (int j = b0; j < bEnd; j++) {
+                id = b[j];
+                if (id >= 0 && countA[id] == 1 && countB[id] == 1) {
+                    xs[size] = positionA[id];
+                    ys[size] = j;
+                    size++;
+                }
+            }
+
+            for (int i = a0; i < aEnd; i++) {
+                countA[a[i]] = 0;
+            }
+            for (int j = b0; j < bEnd; j++) {
+                id = b[j];
+                if (id >= 0) {
+                    countB[id] = 0;
+                }
+            }
+
+            if (size == 0) {
+                return super.lcs(a0, n, b0, m);
+            }
+
+            // patience sorting: tails[p] is the match on top of pile p and
+            // previous[] links each match to the top of the previous pile
+            final int[] tails = new int[size];
+            final int[] previous = new int[size];
+            int piles = 0;
+            for (int c = 0; c < size; c++) {
+                int lo = 0;
+                int hi = piles;
+                while (lo < hi) {
+                    final int mid = (lo + hi) >>> 1;
+                    if (xs[tails[mid]] < xs[c]) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid;
+                    }
+                }
+                previous[c] = lo == 0 ? -1 : tails[lo - 1];
+                tails[lo] = c;
+                if (lo == piles) {
+                    piles++;
+                }
+            }
+
+            // the longest increasing subsequence is read backward
+            final int[] anchors = new int[piles];
+            for (int c = tails[piles - 1], p = piles - 1; c >= 0;
+                    c = previous[c], p--) {
+                anchors[p] = c;
+            }
+
+            LcsItemImpl result = null;
+            int x = a0;
+            int y = b0;
+            for (int c : anchors) {
+                result = LcsItemImpl.chain(result,
+                        lcsHeadTail(x, xs[c] - x, y, ys[c] - y),
+                        match(xs[c], ys[c], 1));
+                x = xs[c] + 1;
+                y = ys[c] + 1;
+            }
+            return LcsItemImpl.chain(result,
+                    lcsHeadTail(x, aEnd - x, y, bEnd - y), null);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.fillumina.lcs;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calculates the length of the LCS of a query sequence against many
+ * candidates (i.e. for deduplication). The query is interned and its bit
+ * masks for the bit-vector algorithm of {@link BitParallelLcs} are built
+ * only once so each candidate costs {@code O(m*ceil(n/64))} (the working
+ * buffers are reused across the candidates). Candidates can also be
+ * compared in parallel. A {@code null} query or candidate is empty.
+ * <p>
+ * Instances are immutable and thread safe.
+ *
+ * @param <T> the type of the candidates
+ * @author Francesco Illuminati
+ */
+public abstract class PreparedLcsQuery<T> {
+    /** Candidates compared by a single task in parallel mode. */
+    private static final int PARALLEL_CHUNK = 64;
+
+    private final int n;
+    private final int words;
+    // the row 0 (for elements not in query) is empty
+    private final long[] masks;
+
+    PreparedLcsQuery(int[] rows, int alphabetSize) {
+        this.n = rows.length;
+        this.words = Math.max(1, (n + 63) >>> 6);
+        this.masks = new long[(alphabetSize + 1) * words];
+        for (int i = 0; i < n; i++) {
+            masks[rows[i] * words + (i >>> 6)] |= 1L << (i & 63);
+        }
+    }
+
+    /** Uses {@link Object#equals(java.lang.Object)} to compare elements. */
+    public static PreparedLcsQuery<Object[]> prepare(Object[] query) {
+        return new ObjectQuery(query == null ? new Object[0] : query);
+    }
+
+    public static PreparedLcsQuery<CharSequence> prepare(
+            CharSequence query) {
+        return new CharQuery(query == null ? "" : query);
+    }
+
+    /** @return the length of the candidate ({@code null} is empty). */
+    abstract int length(T candidate);
+
+    /**
+     * @return the row of masks of the element at the given index of the
+     *         candidate (0 if it's not in the query).
+     */
+    abstract int row(T candidate, int index);
+
+    /** @return the length of the LCS of the query and the candidate. */
+    public int lcsLength(T candidate) {
+        return lcsLength(candidate, new Buffer());
+    }
+
+    /** @return the lengths of the LCS with each of the candidates. */
+    public int[] lcsLengthAll(T[] candidates) {
+        final int[] result = new int[candidates.length];
+        final Buffer buffer = new Buffer();
+        for (int i = 0; i < candidates.length; i++) {
+            result[i] = lcsLength(candidates[i], buffer);
+        }
+        return result;
+    }
+
+    /**
+     * Compares the candidates in parallel using the given pool.
+     *
+     * @return the lengths of the LCS with each of the candidates.
+     */
+    public int[] lcsLengthAll(T[] candidates, ForkJoinPool pool) {
+        final int[] result = new int[candidates.length];
+        pool.invoke(new LcsLengthTask(candidates, result,
+                0, candidates.length));
+        return result;
+    }
+
+    private class LcsLengthTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] candidates;
+        private final int[] result;
+        private final int start, end;
+
+        LcsLengthTask(T[] candidates, int[] result, int start, int end) {
+            this.candidates = candidates;
+            this.result = result;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= PARALLEL_CHUNK) {
+                final Buffer buffer = new Buffer();
+                for (int i = start; i < end; i++) {
+                    result[i] = lcsLength(candidates[i], buffer);
+                }
+            } else {
+                final int middle = (start + end) >>> 1;
+                invokeAll(
+                        new LcsLengthTask(candidates, result, start, middle),
+                        new LcsLengthTask(candidates, result, middle, end));
+            }
+        }
+    }
+
+    /** The rows and the carries of the elements of a candidate. */
+    private static class Buffer {
+        int[] text = new int[0];
+        boolean[] carry = new boolean[0];
+
+        void ensureCapacity(int m) {
+            if (text.length < m) {
+                text = new int[m];
+                carry = new boolean[m];
+            } else {
+                Arrays.fill(carry, 0, m, false);
+            }
+        }
+    }
+
+    private int lcsLength(T candidate, Buffer buffer) {
+        final int m = length(candidate);
+        if (n == 0 || m == 0) {
+            return 0;
+        }
+        buffer.ensureCapacity(m);
+        final int[] text = buffer.text;
+        for (int j = 0; j < m; j++) {
+            text[j] = row(candidate, j);
+        }
+        int lcs = 0;
+        for (int w = 0; w < words; w++) {
+            lcs += BitParallelLcsLength.lcsLengthOfWord(masks, words, w,
+                    text, m, buffer.carry);
+        }
+        return lcs;
+    }
+
+    private static class ObjectQuery extends PreparedLcsQuery<Object[]> {
+        private final Interner interner;
+
+        ObjectQuery(Object[] query) {
+            this(query, new Interner(query.length));
+        }
+
+        private ObjectQuery(Object[] query, Interner interner) {
+            super(rows(query, interner), interner.size());
+            this.interner = interner;
+        }
+
+        private static int[] rows(Object[] query, Interner interner) {
+            final int[] rows = interner.intern(query);
+            for (int i = 0; i < rows.length; i++) {
+                rows[i]++;
+            }
+            return rows;
+        }
+
+        @Override
+        int length(Object[] candidate) {
+            return candidate == null ? 0 : candidate.length;
+        }
+
+        @Override
+        int row(Object[] candidate, int index) {
+            // NOT_FOUND (-1) becomes the empty row
+            return interner.idOf(candidate[index]) + 1;
+        }
+    }
+
+    private static class CharQuery extends PreparedLcsQuery<CharSequence> {
+        private final CharInterner interner;
+
+        CharQuery(CharSequence query) {
+            this(query, new CharInterner(query.length()));
+        }
+
+        private CharQuery(CharSequence query, CharInterner interner) {
+            super(rows(query, interner), interner.size());
+            this.interner = interner;
+        }
+
+        private static int[] rows(CharSequence query, CharInterner interner) {
+            final int[] rows = interner.intern(query);
+            for (int i = 0; i < rows.length; i++) {
+                rows[i]++;
+            }
+            return rows;
+        }
+
+        @Override
+        int length(CharSequence candidate) {
+            return candidate == null ? 0 : candidate.length();
+        }
+
+        @Override
+        int row(CharSequence candidate, int index) {
+            // NOT_FOUND (-1) becomes the empty row
+            return interner.idOf(candidate.charAt(index)) + 1;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.fillumina.lcs;
+
+import java.util.List;
+
+/**
+ * Interface for LCS algorithms accepting arrays of primitives. The
+ * implementations compare the elements directly avoiding both the boxing of
+ * the sequences and the virtual call to {@link Object#equals(java.lang.Object)}
+ * for each comparison.
+ *
+ * @see Lcs
+ * @author Francesco Illuminati
+ */
+public interface PrimitiveLcs {
+
+    int[] calculateLcs(int[] a, int[] b);
+
+    List<LcsItem> calculateLcsIndexes(int[] a, int[] b);
+
+    int calculateLcsLength(int[] a, int[] b);
+
+    long[] calculateLcs(long[] a, long[] b);
+
+    List<LcsItem> calculateLcsIndexes(long[] a, long[] b);
+
+    int calculateLcsLength(long[] a, long[] b);
+
+    char[] calculateLcs(char[] a, char[] b);
+
+    List<LcsItem> calculateLcsIndexes(char[] a, char[] b);
+
+    int calculateLcsLength(char[] a, char[] b);
+
+    byte[] calculateLcs(byte[] a, byte[] b);
+
+    List<LcsItem> calculateLcsIndexes(byte[] a, byte[] b);
+
+    int calculateLcsLength(byte[] a, byte[] b);
+
+    String calculateLcs(CharSequence a, CharSequence b);
+
+    List<LcsItem> calculateLcsIndexes(CharSequence a, CharSequence b);
+
+    int calculateLcsLength(CharSequence a, CharSequence b);
+}
@@ -0,0 +1,86 @@
+package com.fillumina.lcs;
+
+import java.util.List;
+
+/**
+ * Helper methods shared by the {@link PrimitiveLcs} implementations.
+ * The LCS is extracted by copying whole matching segments instead of
+ * iterating over (boxed) indexes.
+ *
+ * @author Francesco Illuminati
+ */
+final class PrimitiveSequences {
+
+    private PrimitiveSequences() {}
+
+    static char[] toCharArray(final CharSequence seq) {
+        if (seq == null) {
+            return null;
+        }
+        if (seq instanceof String) {
+            return ((String) seq).toCharArray();
+        }
+        final int length = seq.length();
+        final char[] array = new char[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = seq.charAt(i);
+        }
+        return array;
+    }
+
+    private static int lcsLength(final List<LcsItem> lcs) {
+        return lcs == null ? 0 : lcs.size();
+    }
+
+    static int[] extractLcs(final int[] a, final List<LcsItem> lcs) {
+        final int[] result = new int[lcsLength(lcs)];
+        if (lcs != null) {
+            int index = 0;
+            for (LcsItem item : lcs) {
+                System.arraycopy(a, item.getFirstSequenceIndex(),
+                        result, index, item.getSteps());
+                index += item.getSteps();
+            }
+        }
+        return result;
+    }
+
+    static long[] extractLcs(final long[] a, final List<LcsItem> lcs) {
+        final long[] result = new long[lcsLength(lcs)];
+        if (lcs != null) {
+            int index = 0;
+            for (LcsItem item : lcs) {
+                System.arraycopy(a, item.getFirstSequenceIndex(),
+                        result, index, item.getSteps());
+                index += item.getSteps();
+            }
+        }
+        return result;
+    }
+
+    static char[] extractLcs(final char[] a, final List<LcsItem> lcs) {
+        final char[] result = new char[lcsLength(lcs)];
+        if (lcs != null) {
+            int index = 0;
+            for (LcsItem item : lcs) {
+                System.arraycopy(a, item.getFirstSequenceIndex(),
+                        result, index, item.getSteps());
+                index += item.getSteps();
+            }
+        }
+        return result;
+    }
+
+    static byte[] extractLcs(final byte[] a, final List<LcsItem> lcs) {
+        final byte[] result = new byte[lcsLength(lcs)];
+        if (lcs != null) {
+            int index = 0;
+            for (LcsItem item : lcs) {
+                System.arraycopy(a, item.getFirstSequenceIndex(),
+                        result, index, item.getSteps());
+                index += item.getSteps();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package com.fillumina.lcs;
+
+/**
+ * Cheap bounds of the LCS length and of the Levenshtein distance of two
+ * strings used to reject a pair before running the real algorithm. The
+ * equal heads and tails are removed (they are in the LCS and never change
+ * the distance) and the chars of the remaining middle parts are compared
+ * by histogram: a char of a middle part missing from the other cannot be
+ * in the LCS and must be edited.
+ * <p>
+ * Chars are counted modulo 256 so that the histogram is small: chars 256
+ * apart fall into the same bucket and are taken as equal which can only
+ * loosen the bounds.
+ *
+ * @author Francesco Illuminati
+ */
+public class SimilarityBounds {
+    private static final int BUCKETS = 256;
+
+    private final int n;
+    private final int head, tail;
+    // chars of the middle of a (b) not in the middle of b (a)
+    private final int excessA, excessB;
+
+    /** {@code null} sequences are empty. */
+    public SimilarityBounds(CharSequence a, CharSequence b) {
+        final CharSequence sa = a == null ? "" : a;
+        final CharSequence sb = b == null ? "" : b;
+        this.n = sa.length();
+        final int m = sb.length();
+        final int min = n < m ? n : m;
+        int h;
+        for (h = 0; h < min && sa.charAt(h) == sb.charAt(h); h++) {}
+        int t;
+        for (t = 0; t < min - h &&
+                sa.charAt(n - 1 - t) == sb.charAt(m - 1 - t); t++) {}
+        this.head = h;
+        this.tail = t;
+
+        final int[] histogram = new int[BUCKETS];
+        for (int i = h; i < n - t; i++) {
+            histogram[sa.charAt(i) & (BUCKETS - 1)]++;
+        }
+        for (int j = h; j < m - t; j++) {
+            histogram[sb.charAt(j) & (BUCKETS - 1)]--;
+        }
+        int ea = 0;
+        int eb = 0;
+        for (int count : histogram) {
+            if (count > 0) {
+                ea += count;
+            } else {
+                eb -= count;
+            }
+        }
+        this.excessA = ea;
+        this.excessB = eb;
+    }
+
+    /** @return the length of the equal head of the sequences. */
+    public int getHead() {
+        return head;
+    }
+
+    /** @return the length of the equal tail of the sequences. */
+    public int getTail() {
+        return tail;
+    }
+
+    /** @return an upper bound of the LCS length. */
+    public int getMaxLcsLength() {
+        return n - excessA;
+    }
+
+    /** @return a lower bound of the Levenshtein distance. */
+    public int getMinDistance() {
+        return excessA > excessB ? excessA : excessB;
+    }
+}
@@ -0,0 +1,222 @@
+package com.fillumina.lcs;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Calculates the LCS of sequences too long to be kept in memory (i.e.
+ * big log files) reading them from iterators. Only a window of each
+ * sequence is kept in memory: the LCS of the two windows is calculated
+ * and the matches starting in the first half of one of the windows are
+ * returned, then the windows are moved after the last returned match
+ * (resynchronizing the sequences) and filled again. When no match is
+ * found the first half of the full windows is discarded.
+ * <p>
+ * The matches are returned incrementally by an iterator as soon as they
+ * are found. The result is the same of the other algorithms as long as
+ * the differences between the sequences are shorter than half the window,
+ * otherwise it is still a common subsequence but it might not be the
+ * longest. The indexes are {@code int} so the sequences cannot be longer
+ * than {@link Integer#MAX_VALUE}.
+ * This class is thread safe (but the returned iterators are not).
+ *
+ * @author Francesco Illuminati
+ */
+public class StreamingLcs {
+    /** The default number of elements of each sequence kept in memory. */
+    public static final int DEFAULT_WINDOW_SIZE = 1 << 12;
+
+    public static final StreamingLcs INSTANCE = new StreamingLcs();
+
+    private final Lcs lcs;
+    private final int windowSize;
+
+    public StreamingLcs() {
+        this(InterningLcs.INSTANCE, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param lcs        the algorithm used on the windows
+     * @param windowSize the number of elements of each sequence kept in
+     *                   memory (at least 2)
+     */
+    public StreamingLcs(Lcs lcs, int windowSize) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException(
+                    "windowSize must be at least 2: " + windowSize);
+        }
+        this.lcs = lcs;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @return an iterator of the matches (ordered and with indexes
+     *         relative to the start of the sequences) that reads the given
+     *         iterators only when needed.
+     */
+    public Iterator<LcsItem> calculateLcsIndexes(Iterator<?> a,
+            Iterator<?> b) {
+        return new MatchIterator(a, b);
+    }
+
+    /**
+     * Compares the lines of the given readers. The readers are not
+     * closed and an {@link IOException} is thrown as
+     * {@link LcsIOException} by the returned iterator.
+     */
+    public Iterator<LcsItem> calculateLcsIndexes(Reader a, Reader b) {
+        return new MatchIterator(new LineIterator(a), new LineIterator(b));
+    }
+
+    private class MatchIterator implements Iterator<LcsItem> {
+        private final Iterator<?> a, b;
+        private final ArrayDeque<LcsItem> found = new ArrayDeque<>();
+        private final Object[] windowA = new Object[windowSize];
+        private final Object[] windowB = new Object[windowSize];
+        private int sizeA, sizeB;
+        // index in the sequence of the first element of the window
+        private int offsetA, offsetB;
+        private boolean finished;
+
+        MatchIterator(Iterator<?> a, Iterator<?> b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (found.isEmpty() && !finished) {
+                advance();
+            }
+            return !found.isEmpty();
+        }
+
+        @Override
+        public LcsItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return found.poll();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void advance() {
+            while (sizeA < windowSize && a.hasNext()) {
+                windowA[sizeA++] = a.next();
+            }
+            while (sizeB < windowSize && b.hasNext()) {
+                windowB[sizeB++] = b.next();
+            }
+            final boolean fullA = sizeA == windowSize && a.hasNext();
+            final boolean fullB = sizeB == windowSize && b.hasNext();
+            if (sizeA == 0 || sizeB == 0) {
+                finished = true;
+                return;
+            }
+
+            final List<LcsItem> items = lcs.calculateLcsIndexes(
+                    Arrays.copyOf(windowA, sizeA),
+                    Arrays.copyOf(windowB, sizeB));
+            if (!fullA && !fullB) {
+                // all the remaining elements are in the windows
+                if (items != null) {
+                    for (LcsItem item : items) {
+                        add(item);
+                    }
+                }
+                finished = true;
+                return;
+            }
+
+            final int half = windowSize >> 1;
+            int endA = 0;
+            int endB = 0;
+            if (items != null) {
+                for (LcsItem item : items) {
+                    if (item.getFirstSequenceIndex() >= half &&
+                            item.getSecondSequenceIndex() >= half) {
+                        break;
+                    }
+                    add(item);
+                    endA = item.getFirstSequenceIndex() + item.getSteps();
+                    endB = item.getSecondSequenceIndex() + item.getSteps();
+                }
+            }
+            if (endA == 0 && endB == 0) {
+                // cannot resynchronize: skips the head of the full windows
+                endA = fullA ? half : 0;
+                endB = fullB ? half : 0;
+            }
+            shiftA(endA);
+            shiftB(endB);
+        }
+
+        private void add(LcsItem item) {
+            found.add(new LcsItemImpl(
+                    offsetA + item.getFirstSequenceIndex(),
+                    offsetB + item.getSecondSequenceIndex(),
+                    item.getSteps()));
+        }
+
+        private void shiftA(int length) {
+            System.arraycopy(windowA, length, windowA, 0, sizeA - length);
+            sizeA -= length;
+            Arrays.fill(windowA, sizeA, sizeA + length, null);
+            offsetA += length;
+        }
+
+        private void shiftB(int length) {
+            System.arraycopy(windowB, length, windowB, 0, sizeB - length);
+            sizeB -= length;
+            Arrays.fill(windowB, sizeB, sizeB + length, null);
+            offsetB += length;
+        }
+    }
+
+    private static class LineIterator implements Iterator<String> {
+        private final BufferedReader reader;
+        private String line;
+
+        LineIterator(Reader reader) {
+            this.reader = reader instanceof BufferedReader ?
+                    (BufferedReader) reader : new BufferedReader(reader);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (line == null) {
+                try {
+                    line = reader.readLine();
+                } catch (IOException ex) {
+                    throw new LcsIOException(ex);
+                }
+            }
+            return line != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final String result = line;
+            line = null;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
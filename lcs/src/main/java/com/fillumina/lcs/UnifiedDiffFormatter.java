@@ -0,0 +1,143 @@
+package com.fillumina.lcs;
+
+import java.io.IOException;
+
+/**
+ * Writes an {@link EditScript} in the unified diff format (as
+ * {@code diff -u}): the changes are grouped into hunks with some lines of
+ * context around them, hunks nearer than twice the context are joined.
+ * The lines are written directly to the given {@link Appendable} (use a
+ * buffered writer for files), each element being converted with
+ * {@link String#valueOf(java.lang.Object)} and terminated by
+ * {@code '\n'}. Nothing is written when the sequences are equal.
+ * This class is thread safe.
+ *
+ * @author Francesco Illuminati
+ */
+public class UnifiedDiffFormatter {
+    public static final int DEFAULT_CONTEXT_LINES = 3;
+
+    public static final UnifiedDiffFormatter INSTANCE =
+            new UnifiedDiffFormatter();
+
+    private final int contextLines;
+
+    public UnifiedDiffFormatter() {
+        this(DEFAULT_CONTEXT_LINES);
+    }
+
+    /** @param contextLines the number of equal lines around each change. */
+    public UnifiedDiffFormatter(int contextLines) {
+        if (contextLines < 0) {
+            throw new IllegalArgumentException(
+                    "contextLines cannot be negative: " + contextLines);
+        }
+        this.contextLines = contextLines;
+    }
+
+    /**
+     * Writes the file names header followed by the hunks.
+     *
+     * @param nameA the name of the first (original) sequence
+     * @param nameB the name of the second (modified) sequence
+     */
+    public void format(String nameA, String nameB, Object[] a, Object[] b,
+            EditScript script, Appendable out) throws IOException {
+        if (script.isIdentity()) {
+            return;
+        }
+        out.append("--- ").append(nameA).append('\n');
+        out.append("+++ ").append(nameB).append('\n');
+        format(a, b, script, out);
+    }
+
+    /** Writes the hunks only. */
+    public void format(Object[] a, Object[] b, EditScript script,
+            Appendable out) throws IOException {
+        final int size = script.size();
+        int op = 0;
+        while (op < size) {
+            if (script.getOperation(op) == EditScript.Operation.MATCH) {
+                op++;
+                continue;
+            }
+            // op is the first change of the hunk, last the last one
+            final int first = op;
+            int last = op;
+            for (op++; op < size; op++) {
+                if (script.getOperation(op) != EditScript.Operation.MATCH) {
+                    last = op;
+                } else if (op + 1 == size ||
+                        script.getLength(op) > contextLines << 1) {
+                    break;
+                }
+            }
+
+            final int before = first == 0 ? 0 :
+                    Math.min(contextLines, script.getLength(first - 1));
+            final int after = last + 1 == size ? 0 :
+                    Math.min(contextLines, script.getLength(last + 1));
+            final int aStart = script.getFirstSequenceIndex(first) - before;
+            final int bStart = script.getSecondSequenceIndex(first) - before;
+            final int aEnd = end(script, last, true) + after;
+            final int bEnd = end(script, last, false) + after;
+
+            out.append("@@ -");
+            appendRange(out, aStart, aEnd - aStart);
+            out.append(" +");
+            appendRange(out, bStart, bEnd - bStart);
+            out.append(" @@\n");
+
+            appendLines(out, ' ', a, aStart, aStart + before);
+            for (int i = first; i <= last; i++) {
+                final int x = script.getFirstSequenceIndex(i);
+                final int y = script.getSecondSequenceIndex(i);
+                final int length = script.getLength(i);
+                switch (script.getOperation(i)) {
+                    case MATCH:
+                        appendLines(out, ' ', a, x, x + length);
+                        break;
+                    case DELETE:
+                        appendLines(out, '-', a, x, x + length);
+                        break;
+                    default:
+                        appendLines(out, '+', b, y, y + length);
+                }
+            }
+            appendLines(out, ' ', a, aEnd - after, aEnd);
+        }
+    }
+
+    /** @return the end of the operation in one of the sequences. */
+    private static int end(EditScript script, int op, boolean first) {
+        final EditScript.Operation operation = script.getOperation(op);
+        if (first) {
+            return script.getFirstSequenceIndex(op) +
+                    (operation == EditScript.Operation.INSERT ?
+                            0 : script.getLength(op));
+        }
+        return script.getSecondSequenceIndex(op) +
+                (operation == EditScript.Operation.DELETE ?
+                        0 : script.getLength(op));
+    }
+
+    /** Empty ranges refer to the line before them (as GNU diff does). */
+    private static void appendRange(Appendable out, int start, int length)
+            throws IOException {
+        if (length == 0) {
+            out.append(Integer.toString(start)).append(",0");
+        } else {
+            out.append(Integer.toString(start + 1));
+            if (length != 1) {
+                out.append(',').append(Integer.toString(length));
+            }
+        }
+    }
+
+    private static void appendLines(Appendable out, char prefix,
+            Object[] lines, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            out.append(prefix).append(String.valueOf(lines[i])).append('\n');
+        }
+    }
+}
@@ -20,25 +20,121 @@ import java.util.List;
  *
  * @author Francesco Illuminati
  */
-public class WagnerFischerLcs implements Lcs {
+public class WagnerFischerLcs implements Lcs, PrimitiveLcs {
     public static final WagnerFischerLcs INSTANCE =
             new WagnerFischerLcs();
 
+    private final LcsBufferPool pool;
+
+    public WagnerFischerLcs() {
+        this(null);
+    }
+
+    /**
+     * Keeps the working buffers between calls into the given pool. The
+     * pool is not thread safe and so it is the returned instance.
+     */
+    public WagnerFischerLcs(LcsBufferPool pool) {
+        this.pool = pool;
+    }
+
     @Override
     public <T> List<T> calculateLcs(T[] a, T[] b) {
-        final Inner<T> inner = new Inner<>(false, a, b);
+        final Inner<T> inner = new Inner<>(false, a, b, pool);
         List<LcsItem> lcs = inner.calculateLcs();
         return inner.extractLcsList(lcs);
     }
 
     @Override
     public List<LcsItem> calculateLcsIndexes(Object[] a, Object[] b) {
-        return new Inner<>(false, a, b).calculateLcs();
+        return new Inner<>(false, a, b, pool).calculateLcs();
     }
 
     @Override
     public int calculateLcsLength(Object[] a, Object[] b) {
-        return new Inner<>(true, a, b).calculateLcsLength();
+        return new Inner<>(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public int[] calculateLcs(int[] a, int[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new IntInner(false, a, b, pool).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(int[] a, int[] b) {
+        return new IntInner(false, a, b, pool).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(int[] a, int[] b) {
+        return new IntInner(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public long[] calculateLcs(long[] a, long[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new LongInner(false, a, b, pool).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(long[] a, long[] b) {
+        return new LongInner(false, a, b, pool).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(long[] a, long[] b) {
+        return new LongInner(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public char[] calculateLcs(char[] a, char[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new CharInner(false, a, b, pool).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(char[] a, char[] b) {
+        return new CharInner(false, a, b, pool).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(char[] a, char[] b) {
+        return new CharInner(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public byte[] calculateLcs(byte[] a, byte[] b) {
+        return PrimitiveSequences.extractLcs(a,
+                new ByteInner(false, a, b, pool).calculateLcs());
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(byte[] a, byte[] b) {
+        return new ByteInner(false, a, b, pool).calculateLcs();
+    }
+
+    @Override
+    public int calculateLcsLength(byte[] a, byte[] b) {
+        return new ByteInner(true, a, b, pool).calculateLcsLength();
+    }
+
+    @Override
+    public String calculateLcs(CharSequence a, CharSequence b) {
+        return new String(calculateLcs(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b)));
+    }
+
+    @Override
+    public List<LcsItem> calculateLcsIndexes(CharSequence a, CharSequence b) {
+        return calculateLcsIndexes(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
+    }
+
+    @Override
+    public int calculateLcsLength(CharSequence a, CharSequence b) {
+        return calculateLcsLength(PrimitiveSequences.toCharArray(a),
+                PrimitiveSequences.toCharArray(b));
     }
 
     private static class Inner<T> extends AbstractWagnerFischerLcs {
@@ -56,12 +152,13 @@ public class WagnerFischerLcs implements Lcs {
         public Inner(boolean sizeOnly,
                 final Collection<? extends T> a,
                 final Collection<? extends T> b) {
-            this(sizeOnly, a.toArray(), b.toArray());
+            this(sizeOnly, a.toArray(), b.toArray(), null);
         }
 
         @SuppressWarnings("unchecked")
-        public Inner(boolean sizeOnly, final Object[] a, final Object[] b) {
-            super(sizeOnly);
+        public Inner(boolean sizeOnly, final Object[] a, final Object[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
             this.a = (T[]) a;
             this.b = (T[]) b;
         }
@@ -96,4 +193,107 @@ public class WagnerFischerLcs implements Lcs {
         }
     }
 
+    private static class IntInner extends AbstractWagnerFischerLcs {
+        private final int[] a, b;
+
+        public IntInner(boolean sizeOnly, final int[] a, final int[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    private static class LongInner extends AbstractWagnerFischerLcs {
+        private final long[] a, b;
+
+        public LongInner(boolean sizeOnly, final long[] a, final long[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    private static class CharInner extends AbstractWagnerFischerLcs {
+        private final char[] a, b;
+
+        public CharInner(boolean sizeOnly, final char[] a, final char[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
+
+    private static class ByteInner extends AbstractWagnerFischerLcs {
+        private final byte[] a, b;
+
+        public ByteInner(boolean sizeOnly, final byte[] a, final byte[] b,
+                LcsBufferPool pool) {
+            super(sizeOnly, pool);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public final boolean sameAtIndex(final int i, final int j) {
+            return a[i] == b[j];
+        }
+
+        @Override
+        public int getFirstSequenceLength() {
+            return a == null ? 0 : a.length;
+        }
+
+        @Override
+        public int getSecondSequenceLength() {
+            return b == null ? 0 : b.length;
+        }
+    }
 }
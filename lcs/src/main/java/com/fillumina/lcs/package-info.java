@@ -33,6 +33,11 @@
  * </tr>
  * </table>
  *
+ * <p>
+ * {@link AdaptiveLcs} applies this table automatically estimating the
+ * length and the similarity of the given sequences.
+ * </p>
+ *
  * @author Francesco Illuminati
  */
 package com.fillumina.lcs;
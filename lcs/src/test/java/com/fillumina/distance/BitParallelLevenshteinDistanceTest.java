@@ -0,0 +1,54 @@
+package com.fillumina.distance;
+
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class BitParallelLevenshteinDistanceTest {
+
+    @Test
+    public void testCloseDistance() {
+        assertEquals(2, BitParallelLevenshteinDistance.distance("tuesday", "thursday"));
+    }
+
+    @Test
+    public void testFarDistance() {
+        assertEquals(5, BitParallelLevenshteinDistance.distance("monday", "saturday"));
+    }
+
+    @Test
+    public void testSameString() {
+        assertEquals(0, BitParallelLevenshteinDistance.distance("sunday", "sunday"));
+    }
+
+    @Test
+    public void testAlmostSameString() {
+        assertEquals(1, BitParallelLevenshteinDistance.distance("sunday", "sunday2"));
+    }
+
+    @Test
+    public void testEmptyString() {
+        assertEquals(6, BitParallelLevenshteinDistance.distance("", "sunday"));
+        assertEquals(6, BitParallelLevenshteinDistance.distance("sunday", ""));
+    }
+
+    @Test
+    public void testRandomStrings() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            // crosses the 64 elements block boundaries
+            final String a =
+                    randomString(rnd, rnd.nextInt(300), 1 + rnd.nextInt(10));
+            final String b =
+                    randomString(rnd, rnd.nextInt(300), 1 + rnd.nextInt(10));
+            assertEquals(a + " " + b,
+                    StringHjelmqvistLevenshteinDistance.distance(a, b),
+                    BitParallelLevenshteinDistance.distance(a, b));
+        }
+    }
+}
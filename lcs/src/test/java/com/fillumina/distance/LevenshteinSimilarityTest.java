@@ -0,0 +1,75 @@
+package com.fillumina.distance;
+
+import com.fillumina.lcs.testutil.NotSplittableCharSequence;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.mutateString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class LevenshteinSimilarityTest {
+
+    @Test
+    public void testSimilarity() {
+        assertEquals(1.0, LevenshteinSimilarity.similarity("abc", "abc"), 0);
+        assertEquals(0.0, LevenshteinSimilarity.similarity("abc", "xyz"), 0);
+        assertEquals(0.75, LevenshteinSimilarity.similarity("abcd", "abd"), 0);
+        assertEquals(1.0, LevenshteinSimilarity.similarity("", null), 0);
+        assertEquals(0.0, LevenshteinSimilarity.similarity("", "abc"), 0);
+    }
+
+    @Test
+    public void testSimilarityAtLeast() {
+        assertTrue(LevenshteinSimilarity.similarityAtLeast("abcd", "abd", 0.75));
+        assertFalse(LevenshteinSimilarity.similarityAtLeast("abcd", "abd", 0.76));
+        assertTrue(LevenshteinSimilarity.similarityAtLeast("abc", "xyz", 0));
+        assertFalse(LevenshteinSimilarity.similarityAtLeast("abc", "abc", 1.1));
+        assertTrue(LevenshteinSimilarity.similarityAtLeast(null, "", 1));
+    }
+
+    @Test
+    public void testCollidingChars() {
+        // 'a' and 'a' + 256 share the same histogram bucket
+        final String a = "abc";
+        final String b = "\u0161bc";
+        assertEquals(2.0 / 3, LevenshteinSimilarity.similarity(a, b), 1e-9);
+        assertTrue(LevenshteinSimilarity.similarityAtLeast(a, b, 0.66));
+        assertFalse(LevenshteinSimilarity.similarityAtLeast(a, b, 0.67));
+    }
+
+    @Test
+    public void testRejectionByBounds() {
+        // 'def' and 'xyz' have no char in common: the distance is at least 3
+        assertFalse(LevenshteinSimilarity.similarityAtLeast(
+                new NotSplittableCharSequence("abcdef"), "abcxyz", 0.6));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCollidingCharsAreNotRejectedByBounds() {
+        LevenshteinSimilarity.similarityAtLeast(
+                new NotSplittableCharSequence("abc"), "\u0161bc", 0.7);
+    }
+
+    @Test
+    public void testRandomStrings() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 5000; i++) {
+            final String a =
+                    randomString(rnd, rnd.nextInt(60), 1 + rnd.nextInt(8));
+            final String b = rnd.nextBoolean() ?
+                    mutateString(rnd, a, 8) :
+                    randomString(rnd, rnd.nextInt(60), 1 + rnd.nextInt(8));
+            final double similarity = LevenshteinSimilarity.similarity(a, b);
+            // thresholds on the exact values are the hardest to get right
+            final double threshold = rnd.nextBoolean() ?
+                    similarity : rnd.nextDouble();
+            assertEquals(a + " " + b + " " + threshold,
+                    similarity >= threshold,
+                    LevenshteinSimilarity.similarityAtLeast(a, b, threshold));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.fillumina.distance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class LevenshteinTrieTest {
+
+    @Test
+    public void testSearch() {
+        final LevenshteinTrie trie = trie("monday", "tuesday", "wednesday",
+                "thursday", "friday", "saturday", "sunday");
+        assertEquals("[tuesday(0), thursday(2)]",
+                trie.search("tuesday", 2).toString());
+        assertEquals("[]", trie.search("june", 1).toString());
+        assertEquals("[sunday(1), monday(3), friday(4)]",
+                trie.nearest("sundey", 3).toString());
+    }
+
+    @Test
+    public void testAdd() {
+        final LevenshteinTrie trie = new LevenshteinTrie();
+        assertTrue(trie.add("abc"));
+        assertTrue(trie.add("ab"));
+        assertTrue(trie.add(""));
+        assertFalse(trie.add("abc"));
+        assertEquals(3, trie.size());
+        assertEquals("[(0), ab(2)]", trie.nearest("", 2).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDistance() {
+        new LevenshteinTrie().search("abc", -1);
+    }
+
+    @Test
+    public void testRandomWords() {
+        final Random rnd = new Random(1);
+        final String[] words = new String[2000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] =
+                    randomString(rnd, 1 + rnd.nextInt(12), 1 + rnd.nextInt(6));
+        }
+        final LevenshteinTrie trie = trie(words);
+        for (int i = 0; i < 100; i++) {
+            final String query =
+                    randomString(rnd, rnd.nextInt(12), 1 + rnd.nextInt(6));
+            final List<LevenshteinTrie.Match> all = scan(words, query);
+
+            final int k = rnd.nextInt(5);
+            final List<LevenshteinTrie.Match> within = new ArrayList<>();
+            for (LevenshteinTrie.Match match : all) {
+                if (match.getDistance() <= k) {
+                    within.add(match);
+                }
+            }
+            assertEquals(within, trie.search(query, k));
+
+            final int top = rnd.nextInt(20);
+            assertEquals(all.subList(0, top), trie.nearest(query, top));
+        }
+    }
+
+    private static List<LevenshteinTrie.Match> scan(String[] words,
+            String query) {
+        final String[] distinct = new java.util.TreeSet<>(
+                Arrays.asList(words)).toArray(new String[0]);
+        final List<LevenshteinTrie.Match> result = new ArrayList<>();
+        for (String word : distinct) {
+            result.add(new LevenshteinTrie.Match(word,
+                    StringHjelmqvistLevenshteinDistance.distance(
+                            word, query)));
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private static LevenshteinTrie trie(String... words) {
+        final LevenshteinTrie trie = new LevenshteinTrie();
+        for (String word : words) {
+            trie.add(word);
+        }
+        return trie;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fillumina.distance;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class PreparedLevenshteinQueryTest {
+
+    @Test
+    public void testDistance() {
+        final PreparedLevenshteinQuery query =
+                PreparedLevenshteinQuery.prepare("tuesday");
+        assertEquals(2, query.distance("thursday"));
+        assertEquals(0, query.distance("tuesday"));
+        assertEquals(7, query.distance(""));
+    }
+
+    @Test
+    public void testEmptyQuery() {
+        final PreparedLevenshteinQuery query =
+                PreparedLevenshteinQuery.prepare("");
+        assertArrayEquals(new int[] {0, 6},
+                query.distanceAll(new String[] {"", "sunday"}));
+    }
+
+    @Test
+    public void testNullIsEmpty() {
+        assertEquals(6, PreparedLevenshteinQuery.prepare(null)
+                .distance("sunday"));
+        final PreparedLevenshteinQuery query =
+                PreparedLevenshteinQuery.prepare("sunday");
+        assertEquals(6, query.distance(null));
+        assertArrayEquals(new int[] {6, 0},
+                query.distanceAll(new String[] {null, "sunday"}));
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertArrayEquals(new int[] {6, 0},
+                    query.distanceAll(new String[] {null, "sunday"}, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRandomStrings() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            // crosses the 64 elements block boundaries
+            final String a =
+                    randomString(rnd, rnd.nextInt(300), 1 + rnd.nextInt(10));
+            final String[] candidates = candidates(rnd, 20);
+            final int[] distances = PreparedLevenshteinQuery.prepare(a)
+                    .distanceAll(candidates);
+            for (int j = 0; j < candidates.length; j++) {
+                assertEquals(a + " " + candidates[j],
+                        StringHjelmqvistLevenshteinDistance
+                                .distance(a, candidates[j]),
+                        distances[j]);
+            }
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        final Random rnd = new Random(2);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final String a = randomString(rnd, 150, 4);
+            final String[] candidates = candidates(rnd, 1000);
+            final PreparedLevenshteinQuery query =
+                    PreparedLevenshteinQuery.prepare(a);
+            assertArrayEquals(query.distanceAll(candidates),
+                    query.distanceAll(candidates, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String[] candidates(Random rnd, int size) {
+        final String[] candidates = new String[size];
+        for (int j = 0; j < size; j++) {
+            candidates[j] =
+                    randomString(rnd, rnd.nextInt(300), 1 + rnd.nextInt(10));
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,97 @@
+package com.fillumina.distance;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class StringDamerauLevenshteinDistanceTest {
+
+    @Test
+    public void testTransposition() {
+        assertEquals(1, StringDamerauLevenshteinDistance.distance("ca", "ac"));
+        assertEquals(1, StringDamerauLevenshteinDistance.distance("tuesday", "teusday"));
+        assertEquals(2, StringDamerauLevenshteinDistance.distance("abcd", "badc"));
+    }
+
+    @Test
+    public void testUnrestricted() {
+        // transposes and then inserts between the transposed chars
+        assertEquals(2, StringDamerauLevenshteinDistance.distance("ca", "abc"));
+    }
+
+    @Test
+    public void testLevenshtein() {
+        assertEquals(2, StringDamerauLevenshteinDistance.distance("tuesday", "thursday"));
+        assertEquals(0, StringDamerauLevenshteinDistance.distance("sunday", "sunday"));
+        assertEquals(6, StringDamerauLevenshteinDistance.distance("sunday", ""));
+    }
+
+    @Test
+    public void testBoundedDistance() {
+        assertEquals(2, StringDamerauLevenshteinDistance.distance("ca", "abc", 2));
+        assertEquals(2, StringDamerauLevenshteinDistance.distance("ca", "abc", 1));
+        assertEquals(3, StringDamerauLevenshteinDistance.distance("", "four", 2));
+    }
+
+    @Test
+    public void testRandomStrings() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            final String a =
+                    randomString(rnd, rnd.nextInt(30), 1 + rnd.nextInt(5));
+            final String b =
+                    randomString(rnd, rnd.nextInt(30), 1 + rnd.nextInt(5));
+            final int expected = damerauLevenshtein(a, b);
+            assertEquals(a + " " + b, expected,
+                    StringDamerauLevenshteinDistance.distance(a, b));
+            final int k = rnd.nextInt(20);
+            assertEquals(a + " " + b + " " + k,
+                    expected > k ? k + 1 : expected,
+                    StringDamerauLevenshteinDistance.distance(a, b, k));
+        }
+    }
+
+    /** The textbook Lowrance-Wagner implementation using the alphabet. */
+    private static int damerauLevenshtein(String a, String b) {
+        final int n = a.length();
+        final int m = b.length();
+        final int max = n + m;
+        final Map<Character, Integer> da = new HashMap<>();
+        final int[][] d = new int[n + 2][m + 2];
+        d[0][0] = max;
+        for (int i = 0; i <= n; i++) {
+            d[i + 1][0] = max;
+            d[i + 1][1] = i;
+        }
+        for (int j = 0; j <= m; j++) {
+            d[0][j + 1] = max;
+            d[1][j + 1] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            int db = 0;
+            for (int j = 1; j <= m; j++) {
+                final Integer last = da.get(b.charAt(j - 1));
+                final int k = last == null ? 0 : last;
+                final int l = db;
+                int cost = 1;
+                if (a.charAt(i - 1) == b.charAt(j - 1)) {
+                    cost = 0;
+                    db = j;
+                }
+                d[i + 1][j + 1] = Math.min(
+                        Math.min(d[i][j] + cost, d[i + 1][j] + 1),
+                        Math.min(d[i][j + 1] + 1,
+                                d[k][l] + (i - k - 1) + 1 + (j - l - 1)));
+            }
+            da.put(a.charAt(i - 1), i);
+        }
+        return d[n + 1][m + 1];
+    }
+}
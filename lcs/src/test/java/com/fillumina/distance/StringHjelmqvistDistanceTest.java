@@ -1,6 +1,8 @@
 package com.fillumina.distance;
 
+import java.util.Random;
 import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
 import static org.junit.Assert.*;
 
 /**
@@ -28,4 +30,38 @@ public class StringHjelmqvistDistanceTest {
     public void testAlmostSameString() {
         assertEquals(1, StringHjelmqvistLevenshteinDistance.distance("sunday", "sunday2"));
     }
+
+    @Test
+    public void testBoundedDistance() {
+        assertEquals(2, StringHjelmqvistLevenshteinDistance.distance(
+                "tuesday", "thursday", 2));
+        assertEquals(2, StringHjelmqvistLevenshteinDistance.distance(
+                "tuesday", "thursday", 10));
+        assertEquals(2, StringHjelmqvistLevenshteinDistance.distance(
+                "tuesday", "thursday", 1));
+        assertEquals(1, StringHjelmqvistLevenshteinDistance.distance(
+                "monday", "saturday", 0));
+        assertEquals(0, StringHjelmqvistLevenshteinDistance.distance(
+                "sunday", "sunday", 0));
+        assertEquals(4, StringHjelmqvistLevenshteinDistance.distance(
+                "", "four", 5));
+        assertEquals(3, StringHjelmqvistLevenshteinDistance.distance(
+                "", "four", 2));
+    }
+
+    @Test
+    public void testRandomBoundedDistance() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            final String a =
+                    randomString(rnd, rnd.nextInt(40), 1 + rnd.nextInt(6));
+            final String b =
+                    randomString(rnd, rnd.nextInt(40), 1 + rnd.nextInt(6));
+            final int k = rnd.nextInt(30);
+            final int distance =
+                    StringHjelmqvistLevenshteinDistance.distance(a, b);
+            assertEquals(a + " " + b + " " + k, distance > k ? k + 1 : distance,
+                    StringHjelmqvistLevenshteinDistance.distance(a, b, k));
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package com.fillumina.distance;
+
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class StringOptimalStringAlignmentDistanceTest {
+
+    @Test
+    public void testTransposition() {
+        assertEquals(1, StringOptimalStringAlignmentDistance.distance("ca", "ac"));
+        assertEquals(1, StringOptimalStringAlignmentDistance.distance("tuesday", "teusday"));
+        assertEquals(2, StringOptimalStringAlignmentDistance.distance("abcd", "badc"));
+    }
+
+    @Test
+    public void testRestricted() {
+        // the transposed chars cannot be edited again
+        assertEquals(3, StringOptimalStringAlignmentDistance.distance("ca", "abc"));
+    }
+
+    @Test
+    public void testLevenshtein() {
+        assertEquals(2, StringOptimalStringAlignmentDistance.distance("tuesday", "thursday"));
+        assertEquals(0, StringOptimalStringAlignmentDistance.distance("sunday", "sunday"));
+        assertEquals(6, StringOptimalStringAlignmentDistance.distance("", "sunday"));
+    }
+
+    @Test
+    public void testBoundedDistance() {
+        assertEquals(1, StringOptimalStringAlignmentDistance.distance("ca", "ac", 1));
+        assertEquals(1, StringOptimalStringAlignmentDistance.distance("ca", "ac", 0));
+        assertEquals(3, StringOptimalStringAlignmentDistance.distance("", "four", 2));
+    }
+
+    @Test
+    public void testRandomStrings() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            final String a =
+                    randomString(rnd, rnd.nextInt(30), 1 + rnd.nextInt(5));
+            final String b =
+                    randomString(rnd, rnd.nextInt(30), 1 + rnd.nextInt(5));
+            final int expected = osa(a, b);
+            assertEquals(a + " " + b, expected,
+                    StringOptimalStringAlignmentDistance.distance(a, b));
+            final int k = rnd.nextInt(20);
+            assertEquals(a + " " + b + " " + k,
+                    expected > k ? k + 1 : expected,
+                    StringOptimalStringAlignmentDistance.distance(a, b, k));
+        }
+    }
+
+    /** The textbook implementation using the whole table. */
+    private static int osa(String a, String b) {
+        final int n = a.length();
+        final int m = b.length();
+        final int[][] d = new int[n + 1][m + 1];
+        for (int i = 0; i <= n; i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= m; j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            for (int j = 1; j <= m; j++) {
+                final int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1),
+                        d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 &&
+                        a.charAt(i - 1) == b.charAt(j - 2) &&
+                        a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[n][m];
+    }
+}
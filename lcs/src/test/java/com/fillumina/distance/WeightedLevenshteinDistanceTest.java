@@ -0,0 +1,168 @@
+package com.fillumina.distance;
+
+import com.fillumina.distance.WeightedLevenshteinDistance.Alignment;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class WeightedLevenshteinDistanceTest {
+
+    @Test
+    public void testUnitCosts() {
+        final WeightedLevenshteinDistance distance =
+                new WeightedLevenshteinDistance(26, 1, 1, 1);
+        assertEquals(2, distance.distance(ids("tuesday"), ids("thursday")));
+        assertEquals(5, distance.distance(ids("monday"), ids("saturday")));
+        assertEquals(6, distance.distance(ids(""), ids("sunday")));
+    }
+
+    @Test
+    public void testSymbolCosts() {
+        // substituting a with b is cheaper than deleting and inserting
+        final int[][] substitutions = {{0, 1, 5}, {1, 0, 5}, {5, 5, 0}};
+        final WeightedLevenshteinDistance distance =
+                new WeightedLevenshteinDistance(
+                        new int[] {2, 2, 2}, new int[] {2, 2, 2},
+                        substitutions);
+        assertEquals(1, distance.distance(new int[] {0}, new int[] {1}));
+        assertEquals(4, distance.distance(new int[] {0}, new int[] {2}));
+    }
+
+    @Test
+    public void testAlignment() {
+        final WeightedLevenshteinDistance distance =
+                new WeightedLevenshteinDistance(26, 1, 1, 1);
+        final Alignment alignment =
+                distance.align(ids("tuesday"), ids("thursday"));
+        assertEquals("[MATCH(0,0), INSERT(1,1), MATCH(1,2), " +
+                "SUBSTITUTE(2,3), MATCH(3,4), MATCH(4,5), MATCH(5,6), " +
+                "MATCH(6,7)] cost=2", alignment.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCost() {
+        new WeightedLevenshteinDistance(3, 1, -1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongTableSize() {
+        new WeightedLevenshteinDistance(new int[2], new int[2],
+                new int[][] {{0, 1}, {1}});
+    }
+
+    @Test
+    public void testRandomUnitCosts() {
+        final Random rnd = new Random(1);
+        final WeightedLevenshteinDistance distance =
+                new WeightedLevenshteinDistance(26, 1, 1, 1);
+        for (int i = 0; i < 500; i++) {
+            final String a =
+                    randomString(rnd, rnd.nextInt(40), 1 + rnd.nextInt(6));
+            final String b =
+                    randomString(rnd, rnd.nextInt(40), 1 + rnd.nextInt(6));
+            assertEquals(a + " " + b,
+                    StringHjelmqvistLevenshteinDistance.distance(a, b),
+                    distance.distance(ids(a), ids(b)));
+        }
+    }
+
+    @Test
+    public void testRandomCosts() {
+        final Random rnd = new Random(2);
+        for (int i = 0; i < 500; i++) {
+            final int alphabet = 1 + rnd.nextInt(6);
+            final int[] inserts = randomCosts(rnd, alphabet);
+            final int[] deletes = randomCosts(rnd, alphabet);
+            final int[][] substitutions = new int[alphabet][];
+            for (int x = 0; x < alphabet; x++) {
+                substitutions[x] = randomCosts(rnd, alphabet);
+            }
+            final WeightedLevenshteinDistance distance =
+                    new WeightedLevenshteinDistance(
+                            inserts, deletes, substitutions);
+            final int[] a = ids(randomString(rnd, rnd.nextInt(40), alphabet));
+            final int[] b = ids(randomString(rnd, rnd.nextInt(40), alphabet));
+
+            final int expected = fullTable(a, b,
+                    inserts, deletes, substitutions);
+            assertEquals(expected, distance.distance(a, b));
+
+            final Alignment alignment = distance.align(a, b);
+            assertEquals(expected, alignment.getCost());
+            assertEquals(expected, replay(alignment, a, b,
+                    inserts, deletes, substitutions));
+        }
+    }
+
+    /** Checks that the alignment transforms a into b and sums its costs. */
+    private static int replay(Alignment alignment, int[] a, int[] b,
+            int[] inserts, int[] deletes, int[][] substitutions) {
+        int x = 0;
+        int y = 0;
+        int cost = 0;
+        for (int i = 0; i < alignment.size(); i++) {
+            assertEquals(x, alignment.getFirstSequenceIndex(i));
+            assertEquals(y, alignment.getSecondSequenceIndex(i));
+            switch (alignment.getOperation(i)) {
+                case MATCH:
+                    assertEquals(a[x], b[y]);
+                    cost += substitutions[a[x++]][b[y++]];
+                    break;
+                case SUBSTITUTE:
+                    assertNotEquals(a[x], b[y]);
+                    cost += substitutions[a[x++]][b[y++]];
+                    break;
+                case DELETE:
+                    cost += deletes[a[x++]];
+                    break;
+                case INSERT:
+                    cost += inserts[b[y++]];
+                    break;
+            }
+        }
+        assertEquals(a.length, x);
+        assertEquals(b.length, y);
+        return cost;
+    }
+
+    private static int fullTable(int[] a, int[] b,
+            int[] inserts, int[] deletes, int[][] substitutions) {
+        final int[][] d = new int[a.length + 1][b.length + 1];
+        for (int i = 1; i <= a.length; i++) {
+            d[i][0] = d[i - 1][0] + deletes[a[i - 1]];
+        }
+        for (int j = 1; j <= b.length; j++) {
+            d[0][j] = d[0][j - 1] + inserts[b[j - 1]];
+        }
+        for (int i = 1; i <= a.length; i++) {
+            for (int j = 1; j <= b.length; j++) {
+                d[i][j] = Math.min(Math.min(
+                        d[i - 1][j] + deletes[a[i - 1]],
+                        d[i][j - 1] + inserts[b[j - 1]]),
+                        d[i - 1][j - 1] + substitutions[a[i - 1]][b[j - 1]]);
+            }
+        }
+        return d[a.length][b.length];
+    }
+
+    private static int[] randomCosts(Random rnd, int size) {
+        final int[] costs = new int[size];
+        for (int i = 0; i < size; i++) {
+            costs[i] = rnd.nextInt(5);
+        }
+        return costs;
+    }
+
+    private static int[] ids(String s) {
+        final int[] ids = new int[s.length()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = s.charAt(i) - 'a';
+        }
+        return ids;
+    }
+}
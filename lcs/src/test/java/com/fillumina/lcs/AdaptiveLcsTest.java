@@ -0,0 +1,70 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+import com.fillumina.lcs.testutil.Converter;
+import com.fillumina.lcs.testutil.RandomSequenceGenerator;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class AdaptiveLcsTest extends AbstractLcsLengthTest {
+    private static final long SEED = 12345L;
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(AdaptiveLcs.INSTANCE);
+    }
+
+    @Test
+    public void shouldSelectMyersForSmallSimilarSequences() {
+        RandomSequenceGenerator gen = new RandomSequenceGenerator(30, 25, SEED);
+        assertSame(MyersLcs.INSTANCE, AdaptiveLcs.INSTANCE
+                .selectAlgorithm(gen.getArrayA(), gen.getArrayB()));
+    }
+
+    @Test
+    public void shouldSelectWagnerFischerForSmallDifferentSequences() {
+        RandomSequenceGenerator gen = new RandomSequenceGenerator(30, 2, SEED);
+        assertSame(WagnerFischerLcs.INSTANCE, AdaptiveLcs.INSTANCE
+                .selectAlgorithm(gen.getArrayA(), gen.getArrayB()));
+    }
+
+    @Test
+    public void shouldSelectLinearSpaceMyersForBigSimilarSequences() {
+        RandomSequenceGenerator gen =
+                new RandomSequenceGenerator(6000, 5000, SEED);
+        assertSame(LinearSpaceMyersLcs.INSTANCE, AdaptiveLcs.INSTANCE
+                .selectAlgorithm(gen.getArrayA(), gen.getArrayB()));
+    }
+
+    @Test
+    public void shouldSelectHirschbergForBigDifferentSequences() {
+        RandomSequenceGenerator gen =
+                new RandomSequenceGenerator(6000, 40, SEED);
+        assertSame(HirschbergLinearSpaceLcs.INSTANCE, AdaptiveLcs.INSTANCE
+                .selectAlgorithm(gen.getArrayA(), gen.getArrayB()));
+    }
+
+    @Test
+    public void shouldIgnoreEqualHeadAndTail() {
+        // the sequences are similar only because of their equal head and tail
+        final String common = "0123456789012345678901234567890123456789";
+        final Character[] a = Converter.toArray(common + "ABCDEFGHIJ" + common);
+        final Character[] b = Converter.toArray(common + "KLMNOPQRST" + common);
+        assertSame(WagnerFischerLcs.INSTANCE,
+                AdaptiveLcs.INSTANCE.selectAlgorithm(a, b));
+    }
+
+    @Test
+    public void shouldUseTheGivenThresholds() {
+        final AdaptiveLcs lcs = new AdaptiveLcs(10_000, 2.0, 16);
+        RandomSequenceGenerator gen =
+                new RandomSequenceGenerator(6000, 5000, SEED);
+        assertSame(WagnerFischerLcs.INSTANCE,
+                lcs.selectAlgorithm(gen.getArrayA(), gen.getArrayB()));
+    }
+}
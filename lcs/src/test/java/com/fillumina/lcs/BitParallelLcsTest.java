@@ -0,0 +1,97 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomInts;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class BitParallelLcsTest extends AbstractLcsLengthTest {
+    private static final PrimitiveLcs EXPECTED = LinearSpaceMyersLcs.INSTANCE;
+    private static final PrimitiveLcs LCS = BitParallelLcs.INSTANCE;
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(BitParallelLcs.INSTANCE);
+    }
+
+    @Test
+    public void shouldCalculateTheLengthOfPrimitiveSequences() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 500; i++) {
+            // lengths across the words boundaries
+            final int[] a =
+                    randomInts(rnd, rnd.nextInt(200), 1 + rnd.nextInt(20));
+            final int[] b =
+                    randomInts(rnd, rnd.nextInt(200), 1 + rnd.nextInt(20));
+            final int expected = EXPECTED.calculateLcsLength(a, b);
+            assertEquals(expected, LCS.calculateLcsLength(
+                    toSparseInts(a), toSparseInts(b)));
+            assertEquals(expected, LCS.calculateLcsLength(
+                    toLongs(a), toLongs(b)));
+            assertEquals(expected, LCS.calculateLcsLength(
+                    toChars(a), toChars(b)));
+            assertEquals(expected, LCS.calculateLcsLength(
+                    toBytes(a), toBytes(b)));
+        }
+    }
+
+    @Test
+    public void shouldNotMatchUnknownIds() {
+        assertEquals(1, BitParallelLcsLength.lcsLengthOfIds(
+                new int[] {0, -1, 1}, new int[] {-1, 5, 1}, 2));
+    }
+
+    @Test
+    public void shouldManageEmptyAndNullSequences() {
+        assertEquals(0, LCS.calculateLcsLength(new int[0], new int[] {1}));
+        assertEquals(0, LCS.calculateLcsLength((int[]) null, new int[] {1}));
+        assertEquals(3, LCS.calculateLcsLength("abc", "xaybzc"));
+    }
+
+    @Test
+    public void shouldCalculateTheLengthOfLongSequences() {
+        final Random rnd = new Random(2);
+        final int[] a = toSparseInts(randomInts(rnd, 5000, 4));
+        final int[] b = toSparseInts(randomInts(rnd, 4000, 4));
+        assertEquals(EXPECTED.calculateLcsLength(a, b),
+                LCS.calculateLcsLength(a, b));
+    }
+
+    private static int[] toSparseInts(int[] array) {
+        final int[] result = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i] * 1_000_003;
+        }
+        return result;
+    }
+
+    private static long[] toLongs(int[] array) {
+        final long[] result = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i] * 1_000_003 * 1_000_000_007L;
+        }
+        return result;
+    }
+
+    private static char[] toChars(int[] array) {
+        final char[] result = new char[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = (char) (array[i] * 1_000_003);
+        }
+        return result;
+    }
+
+    private static byte[] toBytes(int[] array) {
+        final byte[] result = new byte[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = (byte) (array[i] - 10);
+        }
+        return result;
+    }
+}
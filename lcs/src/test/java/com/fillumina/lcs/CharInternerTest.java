@@ -0,0 +1,34 @@
+package com.fillumina.lcs;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class CharInternerTest {
+
+    @Test
+    public void shouldAssignTheSameIdToEqualChars() {
+        final CharInterner interner = new CharInterner();
+        assertArrayEquals(new int[] {0, 1, 0, 2, 1},
+                interner.intern("abacb"));
+        assertEquals(3, interner.size());
+        assertEquals(1, interner.idOf('b'));
+        assertEquals(CharInterner.NOT_FOUND, interner.idOf('d'));
+    }
+
+    @Test
+    public void shouldGrowBeyondTheExpectedSize() {
+        final CharInterner interner = new CharInterner(1);
+        for (char c = 0; c < 1000; c++) {
+            assertEquals(c, interner.intern((char) (c * 64)));
+        }
+        for (char c = 0; c < 1000; c++) {
+            assertEquals(c, interner.idOf((char) (c * 64)));
+        }
+        assertEquals(1000, interner.size());
+        assertEquals(CharInterner.NOT_FOUND, interner.idOf('a'));
+    }
+}
@@ -0,0 +1,71 @@
+package com.fillumina.lcs;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class EditScriptTest {
+
+    @Test
+    public void shouldListTheOperations() {
+        final String a = "xabcdef";
+        final String b = "abzdefyy";
+        final EditScript script = EditScript.of(
+                LinearSpaceMyersLcs.INSTANCE.calculateLcsIndexes(a, b),
+                a.length(), b.length());
+        assertEquals("EditScript{DELETE(0,0)x1, MATCH(1,0)x2, " +
+                "DELETE(3,2)x1, INSERT(4,2)x1, MATCH(4,3)x3, INSERT(7,6)x2}",
+                script.toString());
+        assertEquals(6, script.size());
+        assertEquals(EditScript.Operation.INSERT, script.getOperation(3));
+        assertEquals(4, script.getFirstSequenceIndex(3));
+        assertEquals(2, script.getSecondSequenceIndex(3));
+        assertEquals(1, script.getLength(3));
+        assertEquals(2, script.getDeleted());
+        assertEquals(3, script.getInserted());
+        assertEquals(5, script.getEditDistance());
+        assertFalse(script.isIdentity());
+    }
+
+    @Test
+    public void shouldRebuildTheSecondSequence() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            final String a = randomString(rnd, rnd.nextInt(50), 4);
+            final String b = randomString(rnd, rnd.nextInt(50), 4);
+            final EditScript script = EditScript.of(
+                    MyersLcs.INSTANCE.calculateLcsMatches(a, b),
+                    a.length(), b.length());
+            final StringBuilder buf = new StringBuilder();
+            for (int op = 0; op < script.size(); op++) {
+                final int x = script.getFirstSequenceIndex(op);
+                final int y = script.getSecondSequenceIndex(op);
+                final int length = script.getLength(op);
+                switch (script.getOperation(op)) {
+                    case MATCH:
+                        buf.append(a, x, x + length);
+                        break;
+                    case INSERT:
+                        buf.append(b, y, y + length);
+                        break;
+                    default:
+                }
+            }
+            assertEquals(b, buf.toString());
+        }
+    }
+
+    @Test
+    public void shouldManageEmptySequences() {
+        final EditScript script = EditScript.of(
+                (List<LcsItem>) null, 0, 0);
+        assertEquals(0, script.size());
+        assertTrue(script.isIdentity());
+    }
+}
@@ -0,0 +1,83 @@
+package com.fillumina.lcs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class FileLcsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldCompareTheLinesOfTwoFiles() throws IOException {
+        final File a = write("first\nsecond\nthird\nfourth\n");
+        final File b = write("first\r\nthird\r\nfourth\r\nfifth");
+        final List<LcsItem> lcs = FileLcs.INSTANCE.calculateLcsIndexes(
+                a.toPath(), b.toPath());
+        assertEquals(3, lcs.size());
+        assertEquals(0, lcs.get(0).getFirstSequenceIndex());
+        assertEquals(2, lcs.get(1).getFirstSequenceIndex());
+        assertEquals(1, lcs.get(1).getSecondSequenceIndex());
+        assertEquals(2, lcs.get(1).getSteps());
+    }
+
+    @Test
+    public void shouldManageEmptyFiles() throws IOException {
+        final File a = write("");
+        final File b = write("first\nsecond");
+        assertEquals(0, FileLcs.INSTANCE.calculateLcsLength(
+                a.toPath(), b.toPath()));
+        assertEquals(0, FileLcs.INSTANCE.calculateLcsLength(
+                b.toPath(), a.toPath()));
+    }
+
+    @Test
+    public void shouldReturnTheSameLcsOfTheLinesAsStrings()
+            throws IOException {
+        final Random rnd = new Random(1);
+        for (int t = 0; t < 20; t++) {
+            final String[] linesA = lines(rnd, rnd.nextInt(300));
+            final String[] linesB = lines(rnd, rnd.nextInt(300));
+            assertEquals(LinearSpaceMyersLcs.INSTANCE.calculateLcsLength(
+                    linesA, linesB),
+                    FileLcs.INSTANCE.calculateLcsLength(
+                            write(join(linesA)).toPath(),
+                            write(join(linesB)).toPath()));
+        }
+    }
+
+    private File write(String content) throws IOException {
+        final File file = folder.newFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String[] lines(Random rnd, int size) {
+        final String[] lines = new String[size];
+        for (int i = 0; i < size; i++) {
+            // includes empty lines
+            lines[i] = rnd.nextInt(5) == 0 ? "" : "line " + rnd.nextInt(20);
+        }
+        return lines;
+    }
+
+    private static String join(String[] lines) {
+        final StringBuilder buf = new StringBuilder();
+        for (String line : lines) {
+            buf.append(line).append('\n');
+        }
+        return buf.toString();
+    }
+}
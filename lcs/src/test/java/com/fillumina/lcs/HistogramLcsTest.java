@@ -0,0 +1,40 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractDiffLcsTest;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class HistogramLcsTest extends AbstractDiffLcsTest {
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(HistogramLcs.INSTANCE);
+    }
+
+    @Override
+    public LcsLength getOptimalLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(LinearSpaceMyersLcs.INSTANCE);
+    }
+
+    @Test
+    public void shouldAnchorOnTheLowOccurrenceLines() {
+        // no line is unique in both so patience diff has no anchor
+        final String[] a = new String[] {
+            "void f() {", "}", "void g() {", "}", "void g() {", "}"};
+        final String[] b = new String[] {
+            "void g() {", "}", "}", "void g() {", "}"};
+        assertEquals(Arrays.asList("void g() {", "}", "void g() {", "}"),
+                HistogramLcs.INSTANCE.calculateLcs(a, b));
+        // just as long but a signature is traded for a brace
+        final Object expected = Arrays.asList("}", "}", "void g() {", "}");
+        assertEquals(expected, PatienceLcs.INSTANCE.calculateLcs(a, b));
+        assertEquals(expected,
+                LinearSpaceMyersLcs.INSTANCE.calculateLcs(a, b));
+    }
+}
@@ -0,0 +1,51 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomIntegers;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class HuntSzymanskiLcsTest extends AbstractLcsLengthTest {
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(HuntSzymanskiLcs.INSTANCE);
+    }
+
+    @Test
+    public void shouldReturnTheSameLcsLengthOfMyers() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 300; i++) {
+            final int alphabet = 1 + rnd.nextInt(1000);
+            final Integer[] a = randomIntegers(rnd, rnd.nextInt(200), alphabet);
+            final Integer[] b = randomIntegers(rnd, rnd.nextInt(200), alphabet);
+            final int expected = LinearSpaceMyersLcs.INSTANCE
+                    .calculateLcsLength(a, b);
+            final List<LcsItem> items =
+                    HuntSzymanskiLcs.INSTANCE.calculateLcsIndexes(a, b);
+            assertEquals(expected, items == null ? 0 : items.size());
+            assertEquals(expected,
+                    HuntSzymanskiLcs.INSTANCE.calculateLcsLength(a, b));
+            assertEquals(expected,
+                    HuntSzymanskiLcs.INSTANCE.calculateLcs(a, b).size());
+        }
+    }
+
+    @Test
+    public void shouldJoinConsecutiveMatches() {
+        final List<LcsItem> items = HuntSzymanskiLcs.INSTANCE
+                .calculateLcsIndexes(
+                        new Integer[] {9, 1, 2, 3, 9, 4, 5},
+                        new Integer[] {8, 1, 2, 3, 8, 4, 5});
+        assertEquals(5, items.size());
+        assertEquals(1, items.get(0).getFirstSequenceIndex());
+        assertEquals(3, items.get(0).getSteps());
+    }
+}
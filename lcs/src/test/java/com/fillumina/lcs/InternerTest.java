@@ -0,0 +1,30 @@
+package com.fillumina.lcs;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class InternerTest {
+
+    @Test
+    public void shouldAssignTheSameIdToEqualElements() {
+        final Interner interner = new Interner();
+        assertArrayEquals(new int[] {0, 1, 0, 2, 1},
+                interner.intern(new Object[] {"a", "b", new String("a"),
+                    null, "b"}));
+        assertEquals(3, interner.size());
+    }
+
+    @Test
+    public void shouldNotInternWhenLookingUp() {
+        final Interner interner = new Interner(2);
+        interner.intern(new Object[] {"a", "b"});
+        assertArrayEquals(new int[] {1, Interner.NOT_FOUND, 0},
+                interner.idsOf(new Object[] {"b", "c", "a"}));
+        assertEquals(2, interner.size());
+        assertEquals(Interner.NOT_FOUND, interner.idOf(null));
+    }
+}
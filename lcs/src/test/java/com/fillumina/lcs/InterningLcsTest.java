@@ -0,0 +1,31 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class InterningLcsTest extends AbstractLcsLengthTest {
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(InterningLcs.INSTANCE);
+    }
+
+    @Test
+    public void shouldWorkWithMyers() {
+        final InterningLcs lcs = new InterningLcs(MyersLcs.INSTANCE);
+        final String[] a = new String[] {"first line", "second line",
+            "third line", "fourth line"};
+        final String[] b = new String[] {"first line", "inserted line",
+            new String("third line"), "fourth line", "last line"};
+        assertEquals(Arrays.asList("first line", "third line", "fourth line"),
+                lcs.calculateLcs(a, b));
+        assertEquals(3, lcs.calculateLcsLength(a, b));
+    }
+}
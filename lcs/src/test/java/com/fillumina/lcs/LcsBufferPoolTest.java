@@ -0,0 +1,141 @@
+package com.fillumina.lcs;
+
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomIntegers;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class LcsBufferPoolTest {
+    private static final int ITERATIONS = 200;
+
+    @Test
+    public void shouldReuseTheSameTable() {
+        final LcsBufferPool pool = new LcsBufferPool();
+        final int[][] table = pool.getTable(LcsBufferPool.HIRSCHBERG, 3, 10);
+        assertSame(table, pool.getTable(LcsBufferPool.HIRSCHBERG, 3, 5));
+        assertEquals(30, pool.getRetainedSize());
+    }
+
+    @Test
+    public void shouldGrowOnBothDimensions() {
+        final LcsBufferPool pool = new LcsBufferPool();
+        pool.getTable(LcsBufferPool.WAGNER_FISCHER, 10, 2);
+        final int[][] table =
+                pool.getTable(LcsBufferPool.WAGNER_FISCHER, 2, 10);
+        assertEquals(10, table.length);
+        assertEquals(10, table[0].length);
+    }
+
+    @Test
+    public void shouldReleaseEverythingOnReset() {
+        final LcsBufferPool pool = new LcsBufferPool();
+        pool.getTable(LcsBufferPool.LINEAR_SPACE_MYERS, 2, 100);
+        pool.getHistory(3);
+        pool.getHistoryRow(2, 50);
+        assertEquals(253, pool.getRetainedSize());
+        pool.reset();
+        assertEquals(0, pool.getRetainedSize());
+    }
+
+    @Test
+    public void shouldTrimTheBiggestBuffersFirst() {
+        final LcsBufferPool pool = new LcsBufferPool();
+        pool.getTable(LcsBufferPool.LINEAR_SPACE_MYERS, 2, 100);
+        pool.getTable(LcsBufferPool.HIRSCHBERG, 3, 10);
+        pool.trim(100);
+        assertEquals(30, pool.getRetainedSize());
+    }
+
+    @Test
+    public void shouldNotRetainMoreThanTheMaximumSize() {
+        final LcsBufferPool pool = new LcsBufferPool(100);
+        final LinearSpaceMyersLcs lcs = new LinearSpaceMyersLcs(pool);
+        final Random rnd = new Random(1);
+        lcs.calculateLcsLength(
+                randomIntegers(rnd, 10, 4), randomIntegers(rnd, 10, 4));
+        assertTrue(pool.getRetainedSize() > 0);
+        lcs.calculateLcsLength(
+                randomIntegers(rnd, 1000, 4), randomIntegers(rnd, 1000, 4));
+        assertTrue(pool.getRetainedSize() <= 100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotTrimToANegativeSize() {
+        new LcsBufferPool().trim(-1);
+    }
+
+    @Test
+    public void shouldPooledLinearSpaceMyersReturnTheSameResults() {
+        final LcsBufferPool pool = new LcsBufferPool(1000);
+        assertSameResults(LinearSpaceMyersLcs.INSTANCE,
+                new LinearSpaceMyersLcs(pool));
+    }
+
+    @Test
+    public void shouldPooledMyersReturnTheSameResults() {
+        final LcsBufferPool pool = new LcsBufferPool(1000);
+        assertSameResults(MyersLcs.INSTANCE, new MyersLcs(pool));
+    }
+
+    @Test
+    public void shouldPooledHirschbergReturnTheSameResults() {
+        final LcsBufferPool pool = new LcsBufferPool(1000);
+        assertSameResults(HirschbergLinearSpaceLcs.INSTANCE,
+                new HirschbergLinearSpaceLcs(pool));
+    }
+
+    @Test
+    public void shouldPooledWagnerFischerReturnTheSameResults() {
+        final LcsBufferPool pool = new LcsBufferPool(1000);
+        assertSameResults(WagnerFischerLcs.INSTANCE,
+                new WagnerFischerLcs(pool));
+    }
+
+    @Test
+    public void shouldAlgorithmsShareTheSamePool() {
+        final LcsBufferPool pool = new LcsBufferPool();
+        final Lcs[] algorithms = new Lcs[] {
+            new LinearSpaceMyersLcs(pool),
+            new MyersLcs(pool),
+            new HirschbergLinearSpaceLcs(pool),
+            new WagnerFischerLcs(pool)
+        };
+        final Random rnd = new Random(2);
+        for (int i = 0; i < ITERATIONS; i++) {
+            final Integer[] a = randomIntegers(rnd, rnd.nextInt(60), 5);
+            final Integer[] b = randomIntegers(rnd, rnd.nextInt(60), 5);
+            final int expected =
+                    LinearSpaceMyersLcs.INSTANCE.calculateLcsLength(a, b);
+            for (Lcs lcs : algorithms) {
+                assertEquals(expected, lcs.calculateLcsLength(a, b));
+            }
+        }
+    }
+
+    private static void assertSameResults(PrimitiveLcs expected,
+            PrimitiveLcs pooled) {
+        final Random rnd = new Random(3);
+        for (int i = 0; i < ITERATIONS; i++) {
+            // alternates small and big sequences to reuse dirty buffers
+            final int size = (i & 1) == 0 ? rnd.nextInt(10) : rnd.nextInt(80);
+            final int[] a = ints(rnd, size, 1 + rnd.nextInt(8));
+            final int[] b = ints(rnd, rnd.nextInt(80), 1 + rnd.nextInt(8));
+            assertEquals(expected.calculateLcsLength(a, b),
+                    pooled.calculateLcsLength(a, b));
+            assertArrayEquals(expected.calculateLcs(a, b),
+                    pooled.calculateLcs(a, b));
+        }
+    }
+
+    private static int[] ints(Random rnd, int length, int alphabet) {
+        final int[] array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = rnd.nextInt(alphabet);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,286 @@
+package com.fillumina.lcs;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomInts;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class LcsMatchesTest {
+
+    @Test
+    public void shouldRecordTheSameLcsOfTheItems() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 300; i++) {
+            final int[] a =
+                    randomInts(rnd, rnd.nextInt(100), 1 + rnd.nextInt(8));
+            final int[] b =
+                    randomInts(rnd, rnd.nextInt(100), 1 + rnd.nextInt(8));
+            assertSameLcs(LinearSpaceMyersLcs.INSTANCE.calculateLcsIndexes(a, b),
+                    LinearSpaceMyersLcs.INSTANCE.calculateLcsMatches(a, b));
+            assertSameLcs(MyersLcs.INSTANCE.calculateLcsIndexes(a, b),
+                    MyersLcs.INSTANCE.calculateLcsMatches(a, b));
+        }
+    }
+
+    @Test
+    public void shouldJoinTheContiguousMatchesAndOrderThem() {
+        final LcsMatches matches = new LcsMatches();
+        matches.add(5, 6, 2);
+        matches.add(0, 0, 1);
+        matches.add(1, 1, 3);
+        matches.sort();
+        assertEquals(2, matches.size());
+        assertEquals(6, matches.getLcsLength());
+        assertEquals(4, matches.getSteps(0));
+        assertEquals(5, matches.getFirstSequenceIndex(1));
+        assertEquals(6, matches.getSecondSequenceIndex(1));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 5, 6},
+                matches.toFirstSequenceIndexes());
+        assertArrayEquals(new int[] {0, 1, 2, 3, 6, 7},
+                matches.toSecondSequenceIndexes());
+        assertEquals("LcsMatches{(0,0)x4, (5,6)x2}", matches.toString());
+    }
+
+    @Test
+    public void shouldIterateThroughTheIndexes() {
+        final LcsMatches matches = LinearSpaceMyersLcs.INSTANCE
+                .calculateLcsMatches("abcxdef", "abcdyef");
+        final IntIterator iterator = matches.secondSequenceIndexes();
+        for (int expected : new int[] {0, 1, 2, 3, 5, 6}) {
+            assertTrue(iterator.hasNext());
+            assertEquals(expected, iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+        try {
+            iterator.nextInt();
+            fail();
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldManageAnEmptyLcs() {
+        final LcsMatches matches = LinearSpaceMyersLcs.INSTANCE
+                .calculateLcsMatches(new int[] {1, 2}, new int[] {3});
+        assertTrue(matches.isEmpty());
+        assertEquals(0, matches.getLcsLength());
+        assertFalse(matches.firstSequenceIndexes().hasNext());
+        assertTrue(LcsMatches.of(null).isEmpty());
+    }
+
+    @Test
+    public void shouldVisitTheMatchesAndTheDifferencesInOrder() {
+        final String a = "xabcdef";
+        final String b = "abzdefyy";
+        final StringBuilder buf = new StringBuilder();
+        new AbstractLinearSpaceMyersLcs() {
+            @Override
+            protected int getFirstSequenceLength() {
+                return a.length();
+            }
+
+            @Override
+            protected int getSecondSequenceLength() {
+                return b.length();
+            }
+
+            @Override
+            protected boolean sameAtIndex(int x, int y) {
+                return a.charAt(x) == b.charAt(y);
+            }
+        }.visitLcs(new LcsVisitor() {
+            @Override
+            public void onMatch(int x, int y, int steps) {
+                buf.append(" =").append(a.substring(x, x + steps));
+            }
+
+            @Override
+            public void onDelete(int x, int steps) {
+                buf.append(" -").append(a.substring(x, x + steps));
+            }
+
+            @Override
+            public void onInsert(int y, int steps) {
+                buf.append(" +").append(b.substring(y, y + steps));
+            }
+        });
+        assertEquals(" -x =ab -c +z =def +yy", buf.toString());
+    }
+
+    @Test
+    public void shouldVisitTheMatchesWhileCalculating() {
+        final int[] a = new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        final int[] b = new int[] {1, 2, 0, 4, 5, 0, 7, 8, 0};
+        // the linear space algorithm passes the head before the rest is done
+        final int[] comparisons = new int[1];
+        final Recorder linearSpace = new Recorder(comparisons);
+        linearSpaceMyers(a, b, comparisons).visitLcs(linearSpace);
+        assertEquals(" =0,0,2 -2 +2 =3,3,2 -5 +5 =6,6,2 -8 +8",
+                linearSpace.toString());
+        assertTrue(linearSpace.firstMatchAt < comparisons[0]);
+
+        // Myers finds the matches backtracking so they are visited last
+        comparisons[0] = 0;
+        final Recorder myers = new Recorder(comparisons);
+        myers(a, b, comparisons).visitLcs(myers);
+        assertEquals(linearSpace.toString(), myers.toString());
+        assertEquals(comparisons[0], myers.firstMatchAt);
+    }
+
+    @Test
+    public void shouldVisitTheSameLcsWhileCalculating() {
+        final Random rnd = new Random(2);
+        final int[] comparisons = new int[1];
+        for (int i = 0; i < 300; i++) {
+            final int[] a =
+                    randomInts(rnd, rnd.nextInt(100), 1 + rnd.nextInt(8));
+            final int[] b =
+                    randomInts(rnd, rnd.nextInt(100), 1 + rnd.nextInt(8));
+            final AbstractLcsHeadTailReducer[] algorithms = {
+                linearSpaceMyers(a, b, comparisons),
+                hirschberg(a, b, comparisons)
+            };
+            for (AbstractLcsHeadTailReducer lcs : algorithms) {
+                final Recorder expected = new Recorder(comparisons);
+                lcs.calculateLcsMatches().accept(expected, a.length, b.length);
+                final Recorder visited = new Recorder(comparisons);
+                lcs.visitLcs(visited);
+                assertEquals(expected.toString(), visited.toString());
+            }
+        }
+    }
+
+    @Test
+    public void shouldPassTheMatchesToTheConsumer() {
+        final StringBuilder buf = new StringBuilder();
+        LinearSpaceMyersLcs.INSTANCE.calculateLcsMatches("abcxdef", "abcdyef")
+                .accept(new LcsMatchConsumer() {
+                    @Override
+                    public void onMatch(int x, int y, int steps) {
+                        buf.append(x).append(',').append(y).append(',')
+                                .append(steps).append(' ');
+                    }
+                });
+        assertEquals("0,0,3 4,3,1 5,5,2 ", buf.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldCheckTheMatchIndex() {
+        LcsMatches.of(null).getSteps(0);
+    }
+
+    private static void assertSameLcs(List<LcsItem> items,
+            LcsMatches matches) {
+        final LcsMatches expected = LcsMatches.of(items);
+        assertEquals(expected.getLcsLength(), matches.getLcsLength());
+        assertArrayEquals(expected.toFirstSequenceIndexes(),
+                matches.toFirstSequenceIndexes());
+        assertArrayEquals(expected.toSecondSequenceIndexes(),
+                matches.toSecondSequenceIndexes());
+    }
+
+    /** Records the callbacks and the comparisons done at the first match. */
+    private static class Recorder implements LcsVisitor {
+        private final StringBuilder buf = new StringBuilder();
+        private final int[] comparisons;
+        private int firstMatchAt = -1;
+
+        Recorder(int[] comparisons) {
+            this.comparisons = comparisons;
+        }
+
+        @Override
+        public void onMatch(int x, int y, int steps) {
+            if (firstMatchAt == -1) {
+                firstMatchAt = comparisons[0];
+            }
+            buf.append(" =").append(x).append(',').append(y).append(',')
+                    .append(steps);
+        }
+
+        @Override
+        public void onDelete(int x, int steps) {
+            buf.append(" -").append(x).append(steps > 1 ? "x" + steps : "");
+        }
+
+        @Override
+        public void onInsert(int y, int steps) {
+            buf.append(" +").append(y).append(steps > 1 ? "x" + steps : "");
+        }
+
+        @Override
+        public String toString() {
+            return buf.toString();
+        }
+    }
+
+    private static AbstractLinearSpaceMyersLcs linearSpaceMyers(
+            final int[] a, final int[] b, final int[] comparisons) {
+        return new AbstractLinearSpaceMyersLcs() {
+            @Override
+            protected int getFirstSequenceLength() {
+                return a.length;
+            }
+
+            @Override
+            protected int getSecondSequenceLength() {
+                return b.length;
+            }
+
+            @Override
+            protected boolean sameAtIndex(int x, int y) {
+                comparisons[0]++;
+                return a[x] == b[y];
+            }
+        };
+    }
+
+    private static AbstractHirschbergLinearSpaceLcs hirschberg(
+            final int[] a, final int[] b, final int[] comparisons) {
+        return new AbstractHirschbergLinearSpaceLcs() {
+            @Override
+            protected int getFirstSequenceLength() {
+                return a.length;
+            }
+
+            @Override
+            protected int getSecondSequenceLength() {
+                return b.length;
+            }
+
+            @Override
+            protected boolean sameAtIndex(int x, int y) {
+                comparisons[0]++;
+                return a[x] == b[y];
+            }
+        };
+    }
+
+    private static AbstractMyersLcs myers(
+            final int[] a, final int[] b, final int[] comparisons) {
+        return new AbstractMyersLcs() {
+            @Override
+            protected int getFirstSequenceLength() {
+                return a.length;
+            }
+
+            @Override
+            protected int getSecondSequenceLength() {
+                return b.length;
+            }
+
+            @Override
+            protected boolean sameAtIndex(int x, int y) {
+                comparisons[0]++;
+                return a[x] == b[y];
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.testutil.NotSplittableCharSequence;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.mutateString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class LcsSimilarityTest {
+
+    @Test
+    public void testSimilarity() {
+        assertEquals(1.0, LcsSimilarity.similarity("abc", "abc"), 0);
+        assertEquals(0.0, LcsSimilarity.similarity("abc", "xyz"), 0);
+        assertEquals(6.0 / 7, LcsSimilarity.similarity("abcd", "abd"), 0);
+        assertEquals(1.0, LcsSimilarity.similarity("", null), 0);
+        assertEquals(0.0, LcsSimilarity.similarity("", "abc"), 0);
+    }
+
+    @Test
+    public void testSimilarityAtLeast() {
+        assertTrue(LcsSimilarity.similarityAtLeast("abcd", "abd", 0.85));
+        assertFalse(LcsSimilarity.similarityAtLeast("abcd", "abd", 0.86));
+        assertTrue(LcsSimilarity.similarityAtLeast("abc", "xyz", 0));
+        assertFalse(LcsSimilarity.similarityAtLeast("abc", "abc", 1.1));
+        assertTrue(LcsSimilarity.similarityAtLeast(null, "", 1));
+    }
+
+    @Test
+    public void testCollidingChars() {
+        // 'a' and 'a' + 256 share the same histogram bucket
+        final String a = "abc";
+        final String b = "\u0161bc";
+        assertEquals(4.0 / 6, LcsSimilarity.similarity(a, b), 1e-9);
+        assertTrue(LcsSimilarity.similarityAtLeast(a, b, 0.66));
+        assertFalse(LcsSimilarity.similarityAtLeast(a, b, 0.67));
+    }
+
+    @Test
+    public void testRejectionByBounds() {
+        // 'def' and 'xyz' have no char in common: the LCS is at most 3
+        assertFalse(LcsSimilarity.similarityAtLeast(
+                new NotSplittableCharSequence("abcdef"), "abcxyz", 0.6));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCollidingCharsAreNotRejectedByBounds() {
+        LcsSimilarity.similarityAtLeast(
+                new NotSplittableCharSequence("abc"), "\u0161bc", 0.7);
+    }
+
+    @Test
+    public void testRandomStrings() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 5000; i++) {
+            final String a =
+                    randomString(rnd, rnd.nextInt(60), 1 + rnd.nextInt(8));
+            final String b = rnd.nextBoolean() ?
+                    mutateString(rnd, a, 8) :
+                    randomString(rnd, rnd.nextInt(60), 1 + rnd.nextInt(8));
+            final double similarity = LcsSimilarity.similarity(a, b);
+            // thresholds on the exact values are the hardest to get right
+            final double threshold = rnd.nextBoolean() ?
+                    similarity : rnd.nextDouble();
+            assertEquals(a + " " + b + " " + threshold,
+                    similarity >= threshold,
+                    LcsSimilarity.similarityAtLeast(a, b, threshold));
+        }
+    }
+}
@@ -2,6 +2,14 @@ package com.fillumina.lcs;
 
 import com.fillumina.lcs.helper.LcsLength;
 import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+import com.fillumina.lcs.testutil.CommonSubsequenceChecker;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomInts;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  *
@@ -13,4 +21,114 @@ public class LinearSpaceMyersLcsTest extends AbstractLcsLengthTest  {
     public LcsLength getLcsLengthAlgorithm() {
         return new LcsLengthAdaptor(LinearSpaceMyersLcs.INSTANCE);
     }
+
+    @Test
+    public void shouldManageVeryUnbalancedSequences() {
+        assertEquals(2, LinearSpaceMyersLcs.INSTANCE.calculateLcsLength(
+                new int[] {1, 2, 3, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 4},
+                new int[] {5, 0, 0, 6}));
+    }
+
+    @Test
+    public void shouldCalculateWithinTheMaxEditDistance() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            final int[] a = randomInts(rnd, rnd.nextInt(100), 4);
+            final int[] b = randomInts(rnd, rnd.nextInt(100), 4);
+            final int lcs = LinearSpaceMyersLcs.INSTANCE.calculateLcsLength(a, b);
+            final int editDistance = a.length + b.length - 2 * lcs;
+            assertEquals(lcs, new LinearSpaceMyersLcs(null, editDistance)
+                    .calculateLcsLength(a, b));
+            if (editDistance > 0) {
+                try {
+                    new LinearSpaceMyersLcs(null, editDistance - 1)
+                            .calculateLcsLength(a, b);
+                    fail();
+                } catch (EditDistanceExceededException e) {
+                    assertEquals(editDistance - 1, e.getMaxEditDistance());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnACommonSubsequenceWithACostLimit() {
+        final Random rnd = new Random(2);
+        long total = 0;
+        long optimal = 0;
+        for (int i = 0; i < 200; i++) {
+            final int[] a = randomInts(rnd, rnd.nextInt(300), 4);
+            final int[] b = randomInts(rnd, rnd.nextInt(300), 4);
+            final List<LcsItem> items = new LinearSpaceMyersLcs(null,
+                    Integer.MAX_VALUE, 1 + rnd.nextInt(5))
+                    .calculateLcsIndexes(a, b);
+            final CommonSubsequenceChecker checker =
+                    new CommonSubsequenceChecker(a, b);
+            if (items != null) {
+                for (LcsItem item : items) {
+                    checker.addMatch(item.getFirstSequenceIndex(),
+                            item.getSecondSequenceIndex(), item.getSteps());
+                }
+            }
+            final int length = checker.getLength();
+            final int lcs = LinearSpaceMyersLcs.INSTANCE.calculateLcsLength(a, b);
+            assertTrue(length <= lcs);
+            total += length;
+            optimal += lcs;
+        }
+        // even with such small limits the LCS found is not that far
+        assertTrue(total * 10 > optimal * 7);
+    }
+
+    @Test
+    public void shouldCheckTheEditDistanceOfTheLcsFoundWithACostLimit() {
+        final Random rnd = new Random(4);
+        int notOptimal = 0;
+        for (int i = 0; i < 200; i++) {
+            final int[] a = randomInts(rnd, rnd.nextInt(300), 4);
+            final int[] b = randomInts(rnd, rnd.nextInt(300), 4);
+            final int costLimit = 1 + rnd.nextInt(5);
+            final int lcs = new LinearSpaceMyersLcs(null,
+                    Integer.MAX_VALUE, costLimit).calculateLcsLength(a, b);
+            final int editDistance = a.length + b.length - 2 * lcs;
+            if (lcs < LinearSpaceMyersLcs.INSTANCE.calculateLcsLength(a, b)) {
+                notOptimal++;
+            }
+            assertEquals(lcs, new LinearSpaceMyersLcs(null,
+                    editDistance, costLimit).calculateLcsLength(a, b));
+            if (editDistance > 0) {
+                try {
+                    new LinearSpaceMyersLcs(null, editDistance - 1, costLimit)
+                            .calculateLcsLength(a, b);
+                    fail();
+                } catch (EditDistanceExceededException e) {
+                    assertEquals(editDistance - 1, e.getMaxEditDistance());
+                }
+            }
+        }
+        // the optimal edit distance would be within the maximum
+        assertTrue(notOptimal > 0);
+    }
+
+    @Test
+    public void shouldFindTheLongestLcsWhenTheCostLimitIsNotReached() {
+        final Random rnd = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            final int[] a = randomInts(rnd, rnd.nextInt(300), 4);
+            final int[] b = a.clone();
+            for (int j = rnd.nextInt(10); j >= 0 && b.length > 0; j--) {
+                b[rnd.nextInt(b.length)] = 4;
+            }
+            final int lcs = LinearSpaceMyersLcs.INSTANCE.calculateLcsLength(a, b);
+            final int editDistance = a.length + b.length - 2 * lcs;
+            assertEquals(lcs, new LinearSpaceMyersLcs(null,
+                    Integer.MAX_VALUE, editDistance / 2 + 1)
+                    .calculateLcsLength(a, b));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectANonPositiveCostLimit() {
+        new LinearSpaceMyersLcs(null, Integer.MAX_VALUE, 0);
+    }
 }
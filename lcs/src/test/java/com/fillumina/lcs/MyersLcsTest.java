@@ -2,6 +2,14 @@ package com.fillumina.lcs;
 
 import com.fillumina.lcs.helper.LcsLength;
 import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+import com.fillumina.lcs.testutil.CommonSubsequenceChecker;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomIntegers;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomInts;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  *
@@ -17,4 +25,89 @@ public class MyersLcsTest extends AbstractLcsLengthTest {
     public LcsLength getLcsLengthAlgorithm() {
         return new LcsLengthAdaptor(MyersLcs.INSTANCE);
     }
+
+    @Test
+    public void shouldReturnTheIndexesOfTheSecondSequence() {
+        final List<LcsItem> lcs = MyersLcs.INSTANCE.calculateLcsIndexes(
+                new Object[] {'a', 'b', 'c', 'a', 'b'},
+                new Object[] {'c', 'a', 'b', 'c', 'a'});
+        // "abca" is at 0 in the first sequence and at 1 in the second one
+        int index = 0;
+        for (LcsItem item : lcs) {
+            for (int s = 0; s < item.getSteps(); s++) {
+                assertEquals(index, item.getFirstSequenceIndex() + s);
+                assertEquals(index + 1, item.getSecondSequenceIndex() + s);
+                index++;
+            }
+        }
+        assertEquals(4, index);
+    }
+
+    @Test
+    public void shouldReturnMatchingIndexesOnRandomSequences() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 500; i++) {
+            final Integer[] a = randomIntegers(rnd, rnd.nextInt(50), 4);
+            final Integer[] b = randomIntegers(rnd, rnd.nextInt(50), 4);
+            final List<LcsItem> lcs =
+                    MyersLcs.INSTANCE.calculateLcsIndexes(a, b);
+            final CommonSubsequenceChecker checker =
+                    new CommonSubsequenceChecker(a, b);
+            if (lcs != null) {
+                for (LcsItem item : lcs) {
+                    checker.addMatch(item.getFirstSequenceIndex(),
+                            item.getSecondSequenceIndex(), item.getSteps());
+                }
+            }
+            assertEquals(MyersLcs.INSTANCE.calculateLcsLength(a, b),
+                    checker.getLength());
+        }
+    }
+
+    @Test
+    public void shouldManageDifferentSequencesOfOddTotalLength() {
+        assertEquals(0, MyersLcs.INSTANCE.calculateLcsLength(
+                new Integer[] {0, 0, 0}, new Integer[] {1, 1}));
+    }
+
+    @Test
+    public void shouldCalculateWithinTheMaxEditDistance() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            final int[] a = randomInts(rnd, rnd.nextInt(100), 4);
+            final int[] b = randomInts(rnd, rnd.nextInt(100), 4);
+            final int lcs = MyersLcs.INSTANCE.calculateLcsLength(a, b);
+            final int editDistance = a.length + b.length - 2 * lcs;
+            assertEquals(lcs, new MyersLcs(null, editDistance)
+                    .calculateLcsLength(a, b));
+            if (editDistance > 0) {
+                try {
+                    new MyersLcs(null, editDistance - 1)
+                            .calculateLcsLength(a, b);
+                    fail();
+                } catch (EditDistanceExceededException e) {
+                    assertEquals(editDistance - 1, e.getMaxEditDistance());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldCalculateTheEditDistance() {
+        final Random rnd = new Random(2);
+        for (int i = 0; i < 300; i++) {
+            final int[] a =
+                    randomInts(rnd, rnd.nextInt(100), 1 + rnd.nextInt(6));
+            final int[] b =
+                    randomInts(rnd, rnd.nextInt(100), 1 + rnd.nextInt(6));
+            final int lcs = MyersLcs.INSTANCE.calculateLcsLength(a, b);
+            assertEquals(a.length + b.length - 2 * lcs,
+                    MyersLcs.INSTANCE.calculateEditDistance(a, b));
+        }
+        assertEquals(3,
+                MyersLcs.INSTANCE.calculateEditDistance("abcd", "acbdd"));
+        assertEquals(0, MyersLcs.INSTANCE.calculateEditDistance("", ""));
+        assertEquals(2, MyersLcs.INSTANCE.calculateEditDistance(
+                new Object[] {1, 2}, null));
+    }
 }
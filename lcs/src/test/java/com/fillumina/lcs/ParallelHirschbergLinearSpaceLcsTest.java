@@ -0,0 +1,48 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomInts;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class ParallelHirschbergLinearSpaceLcsTest
+        extends AbstractLcsLengthTest {
+    // very low threshold to force the forking of small sequences
+    private static final ParallelHirschbergLinearSpaceLcs LCS =
+            new ParallelHirschbergLinearSpaceLcs(new ForkJoinPool(4), 4);
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(LCS);
+    }
+
+    @Test
+    public void shouldReturnTheSameResultOfTheSequentialVersion() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            final int[] a = randomInts(rnd, 500 + rnd.nextInt(500), 8);
+            final int[] b = randomInts(rnd, 500 + rnd.nextInt(500), 8);
+            final HirschbergLinearSpaceLcs sequential =
+                    HirschbergLinearSpaceLcs.INSTANCE;
+            assertArrayEquals(sequential.calculateLcs(a, b),
+                    LCS.calculateLcs(a, b));
+            assertEquals(sequential.calculateLcsLength(a, b),
+                    LCS.calculateLcsLength(a, b));
+        }
+    }
+
+    @Test
+    public void shouldReturnZeroLengthForDifferentSequences() {
+        assertEquals(0, LCS.calculateLcsLength(new int[] {1, 2, 3},
+                new int[] {4, 5, 6, 7}));
+        assertEquals(0, ParallelHirschbergLinearSpaceLcs.INSTANCE
+                .calculateLcsLength("abc", "def"));
+    }
+}
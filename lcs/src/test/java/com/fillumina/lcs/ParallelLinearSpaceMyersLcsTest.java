@@ -0,0 +1,45 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomInts;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class ParallelLinearSpaceMyersLcsTest extends AbstractLcsLengthTest {
+    // very low threshold to force the forking of small sequences
+    private static final ParallelLinearSpaceMyersLcs LCS =
+            new ParallelLinearSpaceMyersLcs(new ForkJoinPool(4), 4);
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(LCS);
+    }
+
+    @Test
+    public void shouldReturnTheSameResultOfTheSequentialVersion() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            final int[] a = randomInts(rnd, 2000 + rnd.nextInt(2000), 8);
+            final int[] b = randomInts(rnd, 2000 + rnd.nextInt(2000), 8);
+            assertArrayEquals(LinearSpaceMyersLcs.INSTANCE.calculateLcs(a, b),
+                    LCS.calculateLcs(a, b));
+            assertEquals(LinearSpaceMyersLcs.INSTANCE.calculateLcsLength(a, b),
+                    LCS.calculateLcsLength(a, b));
+        }
+    }
+
+    @Test
+    public void shouldReturnZeroLengthForDifferentSequences() {
+        assertEquals(0, LCS.calculateLcsLength(new int[] {1, 2, 3},
+                new int[] {4, 5, 6, 7}));
+        assertEquals(0, ParallelLinearSpaceMyersLcs.INSTANCE
+                .calculateLcsLength("abc", "def"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractDiffLcsTest;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class PatienceLcsTest extends AbstractDiffLcsTest {
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(PatienceLcs.INSTANCE);
+    }
+
+    @Override
+    public LcsLength getOptimalLcsLengthAlgorithm() {
+        return new LcsLengthAdaptor(LinearSpaceMyersLcs.INSTANCE);
+    }
+
+    @Test
+    public void shouldAnchorOnTheUniqueLines() {
+        // g() has been removed and a brace added on top
+        final String[] a = new String[] {
+            "void f() {", "}", "void g() {", "}"};
+        final String[] b = new String[] {
+            "}", "void f() {", "}"};
+        assertEquals(Arrays.asList("void f() {", "}"),
+                PatienceLcs.INSTANCE.calculateLcs(a, b));
+        // just as long but the signature of f() is lost
+        assertEquals(Arrays.asList("}", "}"),
+                LinearSpaceMyersLcs.INSTANCE.calculateLcs(a, b));
+    }
+}
@@ -0,0 +1,122 @@
+package com.fillumina.lcs;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static com.fillumina.lcs.testutil.RandomSequenceGenerator.randomString;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class PreparedLcsQueryTest {
+
+    @Test
+    public void testLcsLength() {
+        final PreparedLcsQuery<Object[]> query = PreparedLcsQuery.prepare(
+                new Object[] {'A', 'B', 'C', 'B', 'D', 'A', 'B'});
+        assertEquals(4, query.lcsLength(
+                new Object[] {'B', 'D', 'C', 'A', 'B', 'A'}));
+        assertEquals(0, query.lcsLength(new Object[] {'X', 'Y'}));
+        assertEquals(0, query.lcsLength(null));
+    }
+
+    @Test
+    public void testEmptyQuery() {
+        final PreparedLcsQuery<CharSequence> query =
+                PreparedLcsQuery.prepare((CharSequence) null);
+        assertArrayEquals(new int[] {0, 0},
+                query.lcsLengthAll(new String[] {"", "sunday"}));
+    }
+
+    @Test
+    public void testNullIsEmpty() {
+        assertEquals(0, PreparedLcsQuery.prepare((Object[]) null)
+                .lcsLength(new Object[] {'A'}));
+        final PreparedLcsQuery<CharSequence> query =
+                PreparedLcsQuery.prepare("sunday");
+        assertEquals(0, query.lcsLength(null));
+        assertArrayEquals(new int[] {0, 6},
+                query.lcsLengthAll(new String[] {null, "sunday"}));
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertArrayEquals(new int[] {0, 6},
+                    query.lcsLengthAll(new String[] {null, "sunday"}, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRandomObjects() {
+        final Random rnd = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            // crosses the 64 elements word boundaries
+            final Object[] a = toObjects(
+                    randomString(rnd, rnd.nextInt(300), 1 + rnd.nextInt(10)));
+            final Object[][] candidates = new Object[20][];
+            for (int j = 0; j < candidates.length; j++) {
+                candidates[j] = toObjects(
+                        randomString(rnd, rnd.nextInt(300),
+                                1 + rnd.nextInt(10)));
+            }
+            final int[] lengths =
+                    PreparedLcsQuery.prepare(a).lcsLengthAll(candidates);
+            for (int j = 0; j < candidates.length; j++) {
+                assertEquals(LinearSpaceMyersLcs.INSTANCE
+                        .calculateLcsLength(a, candidates[j]), lengths[j]);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomStrings() {
+        final Random rnd = new Random(2);
+        for (int i = 0; i < 100; i++) {
+            final String a =
+                    randomString(rnd, rnd.nextInt(300), 1 + rnd.nextInt(10));
+            final String[] candidates = candidates(rnd, 20);
+            final int[] lengths =
+                    PreparedLcsQuery.prepare(a).lcsLengthAll(candidates);
+            for (int j = 0; j < candidates.length; j++) {
+                assertEquals(a + " " + candidates[j],
+                        LinearSpaceMyersLcs.INSTANCE
+                                .calculateLcsLength(a, candidates[j]),
+                        lengths[j]);
+            }
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        final Random rnd = new Random(3);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final PreparedLcsQuery<CharSequence> query =
+                    PreparedLcsQuery.prepare(randomString(rnd, 150, 4));
+            final String[] candidates = candidates(rnd, 1000);
+            assertArrayEquals(query.lcsLengthAll(candidates),
+                    query.lcsLengthAll(candidates, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String[] candidates(Random rnd, int size) {
+        final String[] candidates = new String[size];
+        for (int j = 0; j < size; j++) {
+            candidates[j] =
+                    randomString(rnd, rnd.nextInt(300), 1 + rnd.nextInt(10));
+        }
+        return candidates;
+    }
+
+    private static Object[] toObjects(String s) {
+        final Object[] array = new Object[s.length()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = s.charAt(i);
+        }
+        return array;
+    }
+}
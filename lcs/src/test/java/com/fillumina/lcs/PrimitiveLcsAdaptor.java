@@ -0,0 +1,60 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.helper.LcsList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Allows to test the {@code int[]} methods of {@link PrimitiveLcs} with the
+ * tests expecting {@link LcsList}. Each distinct element (even
+ * {@code null}) of the given sequences is assigned a different int value.
+ *
+ * @author Francesco Illuminati
+ */
+public class PrimitiveLcsAdaptor implements LcsList, LcsLength {
+    private final PrimitiveLcs lcs;
+
+    public PrimitiveLcsAdaptor(final PrimitiveLcs lcs) {
+        this.lcs = lcs;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> lcs(T[] xs, T[] ys) {
+        final Map<Object, Integer> ids = new HashMap<>();
+        final List<T> symbols = new ArrayList<>();
+        final int[] result = lcs.calculateLcs(
+                toIntArray(xs, ids, symbols), toIntArray(ys, ids, symbols));
+        final List<T> list = new ArrayList<>(result.length);
+        for (int id : result) {
+            list.add(symbols.get(id));
+        }
+        return list;
+    }
+
+    @Override
+    public int lcsLength(Object[] xs, Object[] ys) {
+        final Map<Object, Integer> ids = new HashMap<>();
+        final List<Object> symbols = new ArrayList<>();
+        return lcs.calculateLcsLength(
+                toIntArray(xs, ids, symbols), toIntArray(ys, ids, symbols));
+    }
+
+    private static <T> int[] toIntArray(T[] array,
+            Map<Object, Integer> ids, List<T> symbols) {
+        final int[] result = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            Integer id = ids.get(array[i]);
+            if (id == null) {
+                id = symbols.size();
+                ids.put(array[i], id);
+                symbols.add(array[i]);
+            }
+            result[i] = id;
+        }
+        return result;
+    }
+}
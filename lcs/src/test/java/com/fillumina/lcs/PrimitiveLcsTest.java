@@ -0,0 +1,91 @@
+package com.fillumina.lcs;
+
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Checks the {@code long[]}, {@code char[]}, {@code byte[]} and
+ * {@link CharSequence} methods of every {@link PrimitiveLcs} implementation
+ * (the {@code int[]} ones are tested using {@link PrimitiveLcsAdaptor}).
+ *
+ * @author Francesco Illuminati
+ */
+public class PrimitiveLcsTest {
+    private static final PrimitiveLcs[] ALGORITHMS = new PrimitiveLcs[] {
+        LinearSpaceMyersLcs.INSTANCE,
+        MyersLcs.INSTANCE,
+        HirschbergLinearSpaceLcs.INSTANCE,
+        WagnerFischerLcs.INSTANCE
+    };
+
+    @Test
+    public void shouldCalculateTheLcsOfCharSequences() {
+        for (PrimitiveLcs lcs : ALGORITHMS) {
+            assertEquals(name(lcs), "PON",
+                    lcs.calculateLcs("PYTHON", new StringBuilder("PONY")));
+            assertEquals(name(lcs), 4,
+                    lcs.calculateLcsLength("SPRINGTIME", "PIONEER"));
+            assertEquals(name(lcs), "", lcs.calculateLcs("ABC", ""));
+        }
+    }
+
+    @Test
+    public void shouldCalculateTheLcsOfCharArrays() {
+        for (PrimitiveLcs lcs : ALGORITHMS) {
+            assertArrayEquals(name(lcs), "HMAN".toCharArray(),
+                    lcs.calculateLcs("HUMAN".toCharArray(),
+                            "CHIMPANZEE".toCharArray()));
+            assertEquals(name(lcs), 4, lcs.calculateLcsLength(
+                    "HUMAN".toCharArray(), "CHIMPANZEE".toCharArray()));
+        }
+    }
+
+    @Test
+    public void shouldCalculateTheLcsOfLongArrays() {
+        final long[] a = new long[] {1L << 40, 2, 3, 4, 1L << 40, 5};
+        final long[] b = new long[] {2, 1L << 40, 4, 5, 6};
+        for (PrimitiveLcs lcs : ALGORITHMS) {
+            assertEquals(name(lcs), 3, lcs.calculateLcsLength(a, b));
+            assertEquals(name(lcs), 3, lcs.calculateLcs(a, b).length);
+        }
+    }
+
+    @Test
+    public void shouldCalculateTheLcsOfByteArrays() {
+        final byte[] a = new byte[] {-1, 0, 1, 2, 3, 127};
+        final byte[] b = new byte[] {0, 2, -1, 3, 127};
+        for (PrimitiveLcs lcs : ALGORITHMS) {
+            assertArrayEquals(name(lcs), new byte[] {0, 2, 3, 127},
+                    lcs.calculateLcs(a, b));
+            assertEquals(name(lcs), 4, lcs.calculateLcsLength(a, b));
+        }
+    }
+
+    @Test
+    public void shouldReturnTheMatchingIndexes() {
+        for (PrimitiveLcs lcs : ALGORITHMS) {
+            final List<LcsItem> items =
+                    lcs.calculateLcsIndexes("XABCY", "ABCZ");
+            assertEquals(name(lcs), 3, items.size());
+            int index = 1;
+            for (int i : items.get(0).lcsIndexesOfTheFirstSequence()) {
+                assertEquals(name(lcs), index++, i);
+            }
+        }
+    }
+
+    @Test
+    public void shouldManageNullSequences() {
+        for (PrimitiveLcs lcs : ALGORITHMS) {
+            assertEquals(name(lcs), 0,
+                    lcs.calculateLcs((int[]) null, new int[] {1}).length);
+            assertEquals(name(lcs), 0,
+                    lcs.calculateLcsLength((int[]) null, (int[]) null));
+        }
+    }
+
+    private static String name(PrimitiveLcs lcs) {
+        return lcs.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,47 @@
+package com.fillumina.lcs;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class SimilarityBoundsTest {
+
+    @Test
+    public void shouldRemoveHeadAndTail() {
+        final SimilarityBounds bounds =
+                new SimilarityBounds("abxxcd", "abyycd");
+        assertEquals(2, bounds.getHead());
+        assertEquals(2, bounds.getTail());
+        assertEquals(4, bounds.getMaxLcsLength());
+        assertEquals(2, bounds.getMinDistance());
+    }
+
+    @Test
+    public void shouldCountTheCharsNotInCommon() {
+        final SimilarityBounds bounds = new SimilarityBounds("xaab", "bay");
+        assertEquals(0, bounds.getHead());
+        assertEquals(0, bounds.getTail());
+        // 'x' and one 'a' are only in the first, 'y' only in the second
+        assertEquals(2, bounds.getMaxLcsLength());
+        assertEquals(2, bounds.getMinDistance());
+    }
+
+    @Test
+    public void shouldMergeCharsInTheSameBucket() {
+        // 'a' and 'a' + 256 are taken as equal so the bounds are looser
+        final SimilarityBounds bounds =
+                new SimilarityBounds("xa", "x\u0161");
+        assertEquals(2, bounds.getMaxLcsLength());
+        assertEquals(0, bounds.getMinDistance());
+    }
+
+    @Test
+    public void shouldManageNullAsEmpty() {
+        final SimilarityBounds bounds = new SimilarityBounds(null, "abc");
+        assertEquals(0, bounds.getMaxLcsLength());
+        assertEquals(3, bounds.getMinDistance());
+    }
+}
@@ -0,0 +1,136 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.testutil.CommonSubsequenceChecker;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class StreamingLcsTest {
+
+    @Test
+    public void shouldReturnTheLcsOfSequencesShorterThanTheWindow() {
+        final Integer[] a = new Integer[] {1, 2, 3, 4, 5, 6, 7};
+        final Integer[] b = new Integer[] {0, 2, 3, 9, 5, 7, 8};
+        final List<Integer> lcs = new ArrayList<>();
+        final Iterator<LcsItem> items = StreamingLcs.INSTANCE
+                .calculateLcsIndexes(Arrays.asList(a).iterator(),
+                        Arrays.asList(b).iterator());
+        while (items.hasNext()) {
+            final LcsItem item = items.next();
+            for (int i = 0; i < item.getSteps(); i++) {
+                lcs.add(a[item.getFirstSequenceIndex() + i]);
+            }
+        }
+        assertEquals(Arrays.asList(2, 3, 5, 7), lcs);
+    }
+
+    @Test
+    public void shouldCompareTheLinesOfReaders() {
+        final Iterator<LcsItem> items = StreamingLcs.INSTANCE
+                .calculateLcsIndexes(
+                        new StringReader("first\nsecond\nthird\n"),
+                        new StringReader("first\nthird\nfourth"));
+        assertEquals(0, items.next().getFirstSequenceIndex());
+        final LcsItem third = items.next();
+        assertEquals(2, third.getFirstSequenceIndex());
+        assertEquals(1, third.getSecondSequenceIndex());
+        assertFalse(items.hasNext());
+    }
+
+    @Test
+    public void shouldWrapTheExceptionsOfTheReaders() {
+        final IOException exception = new IOException("broken");
+        final Reader broken = new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len)
+                    throws IOException {
+                throw exception;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try {
+            StreamingLcs.INSTANCE.calculateLcsIndexes(broken,
+                    new StringReader("first")).hasNext();
+            fail();
+        } catch (LcsIOException ex) {
+            assertSame(exception, ex.getCause());
+        }
+    }
+
+    @Test
+    public void shouldManageEmptySequences() {
+        final List<Integer> empty = new ArrayList<>();
+        assertFalse(StreamingLcs.INSTANCE.calculateLcsIndexes(
+                empty.iterator(), Arrays.asList(1, 2).iterator()).hasNext());
+    }
+
+    @Test
+    public void shouldFindTheLcsOfLongSequencesWithLocalDifferences() {
+        final Random rnd = new Random(1);
+        for (int t = 0; t < 20; t++) {
+            final List<Integer> a = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                a.add(rnd.nextInt(1000));
+            }
+            final List<Integer> b = new ArrayList<>(a);
+            for (int i = 0; i < 100; i++) {
+                final int index = rnd.nextInt(b.size());
+                if (rnd.nextBoolean()) {
+                    b.remove(index);
+                } else {
+                    b.add(index, -1);
+                }
+            }
+            final StreamingLcs streamingLcs =
+                    new StreamingLcs(InterningLcs.INSTANCE, 128);
+            final Iterator<LcsItem> items = streamingLcs.calculateLcsIndexes(
+                    a.iterator(), b.iterator());
+            final CommonSubsequenceChecker checker =
+                    new CommonSubsequenceChecker(a, b);
+            while (items.hasNext()) {
+                final LcsItem item = items.next();
+                checker.addMatch(item.getFirstSequenceIndex(),
+                        item.getSecondSequenceIndex(), item.getSteps());
+            }
+            assertEquals(InterningLcs.INSTANCE.calculateLcsLength(
+                    a.toArray(), b.toArray()), checker.getLength());
+        }
+    }
+
+    @Test
+    public void shouldReturnACommonSubsequenceOfDifferentSequences() {
+        final Random rnd = new Random(2);
+        final List<Integer> a = new ArrayList<>();
+        final List<Integer> b = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            a.add(rnd.nextInt(10));
+            b.add(rnd.nextInt(10));
+        }
+        final Iterator<LcsItem> items = new StreamingLcs(
+                LinearSpaceMyersLcs.INSTANCE, 64)
+                .calculateLcsIndexes(a.iterator(), b.iterator());
+        final CommonSubsequenceChecker checker =
+                new CommonSubsequenceChecker(a, b);
+        while (items.hasNext()) {
+            final LcsItem item = items.next();
+            checker.addMatch(item.getFirstSequenceIndex(),
+                    item.getSecondSequenceIndex(), item.getSteps());
+        }
+        assertTrue(checker.getFirstSequenceEnd() > 2000 ||
+                checker.getSecondSequenceEnd() > 2000);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fillumina.lcs;
+
+import java.io.IOException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class UnifiedDiffFormatterTest {
+    private static final String[] A = "a b c d e f g h i j k l m n".split(" ");
+    private static final String[] B =
+            "x a b c D e f g h i j k l n o".split(" ");
+
+    @Test
+    public void shouldFormatWithTheDefaultContext() throws IOException {
+        assertEquals(
+                "--- f1\n" +
+                "+++ f2\n" +
+                "@@ -1,7 +1,8 @@\n" +
+                "+x\n" +
+                " a\n" +
+                " b\n" +
+                " c\n" +
+                "-d\n" +
+                "+D\n" +
+                " e\n" +
+                " f\n" +
+                " g\n" +
+                "@@ -10,5 +11,5 @@\n" +
+                " j\n" +
+                " k\n" +
+                " l\n" +
+                "-m\n" +
+                " n\n" +
+                "+o\n",
+                format(UnifiedDiffFormatter.INSTANCE, "f1", "f2", A, B));
+    }
+
+    @Test
+    public void shouldFormatWithOneLineOfContext() throws IOException {
+        assertEquals(
+                "@@ -1 +1,2 @@\n" +
+                "+x\n" +
+                " a\n" +
+                "@@ -3,3 +4,3 @@\n" +
+                " c\n" +
+                "-d\n" +
+                "+D\n" +
+                " e\n" +
+                "@@ -12,3 +13,3 @@\n" +
+                " l\n" +
+                "-m\n" +
+                " n\n" +
+                "+o\n",
+                format(new UnifiedDiffFormatter(1), null, null, A, B));
+    }
+
+    @Test
+    public void shouldFormatEmptyRanges() throws IOException {
+        assertEquals(
+                "@@ -0,0 +1,2 @@\n" +
+                "+a\n" +
+                "+b\n",
+                format(UnifiedDiffFormatter.INSTANCE, null, null,
+                        new String[0], new String[] {"a", "b"}));
+        assertEquals(
+                "@@ -1,2 +0,0 @@\n" +
+                "-a\n" +
+                "-b\n",
+                format(UnifiedDiffFormatter.INSTANCE, null, null,
+                        new String[] {"a", "b"}, new String[0]));
+    }
+
+    @Test
+    public void shouldNotWriteAnythingForEqualSequences() throws IOException {
+        assertEquals("", format(UnifiedDiffFormatter.INSTANCE, "f1", "f2",
+                A, A.clone()));
+    }
+
+    private static String format(UnifiedDiffFormatter formatter,
+            String nameA, String nameB, String[] a, String[] b)
+            throws IOException {
+        final EditScript script = EditScript.of(
+                LinearSpaceMyersLcs.INSTANCE.calculateLcsMatches(a, b),
+                a.length, b.length);
+        final StringBuilder buf = new StringBuilder();
+        if (nameA == null) {
+            formatter.format(a, b, script, buf);
+        } else {
+            formatter.format(nameA, nameB, a, b, script, buf);
+        }
+        return buf.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.fillumina.lcs;
+
+import com.fillumina.lcs.helper.LcsLength;
+import com.fillumina.lcs.testutil.AbstractLcsLengthTest;
+
+/**
+ *
+ * @author Francesco Illuminati
+ */
+public class WagnerFischerPrimitiveLcsTest extends AbstractLcsLengthTest {
+
+    @Override
+    public LcsLength getLcsLengthAlgorithm() {
+        return new PrimitiveLcsAdaptor(WagnerFischerLcs.INSTANCE);
+    }
+}